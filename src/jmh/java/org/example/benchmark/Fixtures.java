@@ -0,0 +1,103 @@
+package org.example.benchmark;
+
+import org.example.delivery.DeliveryChannels;
+import org.example.delivery.InProcessTransport;
+import org.example.history.ReadingHistory;
+import org.example.metrics.WeatherMetrics;
+import org.example.model.WeatherData;
+import org.example.observer.WeatherObserver;
+import org.example.scheduling.StationScheduler;
+import org.example.service.ObserverDispatcher;
+import org.example.service.StationRegistry;
+import org.example.service.UpdatePolicy;
+import org.example.service.WeatherStation;
+import org.example.strategy.ScheduledBatchStrategy;
+import org.example.strategy.UpdateStrategy;
+import org.example.tracing.FlightRecorder;
+import org.example.tracing.SlowObserverDetector;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wiring shared by the benchmarks, built without a Spring context.
+ */
+public final class Fixtures {
+    private Fixtures() {
+    }
+
+    /**
+     * Delivery channels sized so that even 100k-observer fan-outs are queued rather than dropped.
+     */
+    public static DeliveryChannels channels() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "weather.delivery.websocket.queue-capacity", 1 << 20,
+                "weather.delivery.websocket.batch-size", 1024,
+                "weather.delivery.websocket.linger-ms", 1,
+                "weather.delivery.websocket.concurrency", 4)));
+        return new DeliveryChannels(environment, new InProcessTransport(environment), WeatherMetrics.NOOP);
+    }
+
+    public static ObserverDispatcher dispatcher(DeliveryChannels channels) {
+        FlightRecorder recorder = new FlightRecorder(8192);
+        SlowObserverDetector detector = new SlowObserverDetector(recorder, 250, 5, 60_000, false, 5_000);
+        return new ObserverDispatcher(channels, WeatherMetrics.NOOP, recorder, detector, "platform",
+                Runtime.getRuntime().availableProcessors(), 60_000, 60_000, 2, 1024);
+    }
+
+    /**
+     * A scheduler that is never started, for registries whose stations are not on a schedule.
+     */
+    public static StationScheduler idleScheduler() {
+        return new StationScheduler(null, new ScheduledBatchStrategy(1_000, 3_600), 30_000, 0, false,
+                1_000, 300_000, 5_000, 0.05, 0.01, 100, 512, 1);
+    }
+
+    /**
+     * A single-shard registry with {@code station} as its default station.
+     */
+    public static StationRegistry registry(WeatherStation station, ReadingHistory history, ObserverDispatcher dispatcher,
+                                           List<UpdateStrategy> strategies, StationScheduler scheduler) {
+        return new StationRegistry(station, history, dispatcher, strategies, UpdatePolicy.UNLIMITED, scheduler,
+                WeatherMetrics.NOOP, 1, 4096);
+    }
+
+    public static WeatherData reading() {
+        return new WeatherData(21.5, 48.0, 12.25, Instant.parse("2024-06-01T12:00:00Z"));
+    }
+
+    public static List<WeatherObserver> noOpObservers(int count) {
+        List<WeatherObserver> observers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            observers.add(new NoOpObserver("observer-" + i));
+        }
+        return observers;
+    }
+
+    /**
+     * Observer called directly on the dispatcher's executor, so only dispatch overhead is measured.
+     */
+    static final class NoOpObserver implements WeatherObserver {
+        private final String id;
+        private volatile WeatherData last;
+
+        NoOpObserver(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public void update(WeatherData data) {
+            last = data;
+        }
+    }
+}
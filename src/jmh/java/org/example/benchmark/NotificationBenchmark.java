@@ -0,0 +1,66 @@
+package org.example.benchmark;
+
+import org.example.delivery.DeliveryChannels;
+import org.example.model.WeatherData;
+import org.example.observer.WeatherObserver;
+import org.example.service.ObserverDispatcher;
+import org.example.service.UpdatePolicy;
+import org.example.service.WeatherStation;
+import org.example.strategy.ManualInputStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of committing a reading and of a complete observer fan-out, by observer count.
+ *
+ * {@code triggerUpdate} measures the synchronous part a caller pays (strategy, commit, listeners,
+ * subscription matching and hand-off to the coalescing fan-out). {@code notifyObservers} measures
+ * one full fan-out through the dispatcher until every observer has been called.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationBenchmark {
+    @Param({"1", "100", "10000", "100000"})
+    public int observers;
+
+    private DeliveryChannels channels;
+    private ObserverDispatcher dispatcher;
+    private WeatherStation station;
+    private List<WeatherObserver> directObservers;
+    private WeatherData reading;
+
+    @Setup
+    public void setUp() {
+        channels = Fixtures.channels();
+        dispatcher = Fixtures.dispatcher(channels);
+        station = new WeatherStation("benchmark", new ManualInputStrategy(), dispatcher, List.of(),
+                new UpdatePolicy(true, 0, 1));
+        for (int i = 0; i < observers; i++) {
+            station.subscribeWebApp("observer-" + i);
+        }
+        directObservers = Fixtures.noOpObservers(observers);
+        reading = Fixtures.reading();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+        channels.shutdown();
+    }
+
+    @Benchmark
+    public WeatherData triggerUpdate() {
+        return station.triggerUpdate(reading);
+    }
+
+    @Benchmark
+    public void notifyObservers() {
+        dispatcher.dispatch(directObservers, reading).join();
+    }
+}
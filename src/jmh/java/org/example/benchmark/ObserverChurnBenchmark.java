@@ -0,0 +1,73 @@
+package org.example.benchmark;
+
+import org.example.delivery.DeliveryChannels;
+import org.example.service.ObserverDispatcher;
+import org.example.service.UpdatePolicy;
+import org.example.service.WeatherStation;
+import org.example.strategy.ManualInputStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Subscribe/unsubscribe throughput with four threads contending on one station, on top of
+ * a standing population of observers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ObserverChurnBenchmark {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    @Param({"0", "1000", "10000"})
+    public int population;
+
+    private DeliveryChannels channels;
+    private ObserverDispatcher dispatcher;
+    private WeatherStation station;
+
+    @State(Scope.Thread)
+    public static class Ids {
+        private final String prefix = "churn-" + THREADS.incrementAndGet() + "-";
+        private long next;
+
+        String next() {
+            return prefix + next++;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        channels = Fixtures.channels();
+        dispatcher = Fixtures.dispatcher(channels);
+        station = new WeatherStation("benchmark", new ManualInputStrategy(), dispatcher, List.of(),
+                UpdatePolicy.UNLIMITED);
+        for (int i = 0; i < population; i++) {
+            station.subscribeWebApp("standing-" + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+        channels.shutdown();
+    }
+
+    @Benchmark
+    public boolean addObserver(Ids ids) {
+        return station.subscribeWebApp(ids.next());
+    }
+
+    @Benchmark
+    public boolean subscribeThenUnsubscribe(Ids ids) {
+        String id = ids.next();
+        station.subscribeWebApp(id);
+        return station.unsubscribe(id);
+    }
+}
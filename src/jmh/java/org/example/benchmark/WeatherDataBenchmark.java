@@ -0,0 +1,56 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.model.ReadingSlab;
+import org.example.model.WeatherData;
+import org.example.web.WeatherJsonEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation and encoding cost of a single reading: construction as an object or as a slab row,
+ * generic Jackson serialization and the pre-encoded fragments used by the HTTP and SSE paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherDataBenchmark {
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private WeatherData reading;
+    private final ReadingSlab slab = new ReadingSlab(1024);
+    private double temperature = 21.5;
+
+    @Setup
+    public void setUp() {
+        reading = Fixtures.reading();
+    }
+
+    @Benchmark
+    public WeatherData construct() {
+        return new WeatherData(temperature, 48.0, 12.25, Instant.now());
+    }
+
+    @Benchmark
+    public int appendToSlab() {
+        if (slab.size() == 1024) slab.clear();
+        slab.add(System.currentTimeMillis(), temperature, 48.0, 12.25);
+        return slab.size();
+    }
+
+    @Benchmark
+    public byte[] serializeJackson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(reading);
+    }
+
+    @Benchmark
+    public byte[] serializeEncoder() {
+        return WeatherJsonEncoder.encode(reading);
+    }
+}
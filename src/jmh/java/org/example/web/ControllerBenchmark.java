@@ -0,0 +1,114 @@
+package org.example.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.aggregation.WindowedAggregator;
+import org.example.benchmark.Fixtures;
+import org.example.delivery.DeliveryChannels;
+import org.example.history.ReadingHistory;
+import org.example.scheduling.StationScheduler;
+import org.example.service.ObserverDispatcher;
+import org.example.service.StationRegistry;
+import org.example.service.UpdatePolicy;
+import org.example.service.WeatherStation;
+import org.example.strategy.ManualInputStrategy;
+import org.example.strategy.UpdateStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WeatherController} handlers called directly, without the servlet container or
+ * Spring MVC dispatch, against a station wired like the application's default one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerBenchmark {
+    private DeliveryChannels channels;
+    private ObserverDispatcher dispatcher;
+    private WeatherEventStream eventStream;
+    private StationScheduler scheduler;
+    private StationRegistry registry;
+    private WeatherController controller;
+    private String currentEtag;
+    private final Map<String, Double> manualInput =
+            Map.of("temperatureCelsius", 21.5, "humidityPercent", 48.0, "windKph", 12.25);
+
+    @Setup
+    public void setUp() throws IOException {
+        channels = Fixtures.channels();
+        dispatcher = Fixtures.dispatcher(channels);
+        WeatherJsonEncoder encoder = new WeatherJsonEncoder();
+        eventStream = new WeatherEventStream(encoder, 2, 1_800_000);
+        ReadingHistory history = new ReadingHistory(100_000, Duration.ZERO);
+        WindowedAggregator aggregator = new WindowedAggregator(new String[]{"1m", "5m", "1h"}, 0.1, 65_536);
+        ChangeWaiters waiters = new ChangeWaiters(30_000);
+        UpdateStrategy manual = new ManualInputStrategy();
+        WeatherStation station = new WeatherStation(WeatherStation.DEFAULT_ID, manual, dispatcher,
+                List.of(history, aggregator, eventStream, waiters), new UpdatePolicy(true, 0, 1));
+        scheduler = Fixtures.idleScheduler();
+        registry = Fixtures.registry(station, history, dispatcher, List.of(manual), scheduler);
+        controller = new WeatherController(station, registry, eventStream, history, aggregator,
+                new BatchReadingParser(new ObjectMapper(), 10_000), encoder, waiters, channels, List.of(manual));
+        for (int i = 0; i < 100; i++) {
+            station.subscribeWebApp("observer-" + i);
+        }
+        station.triggerUpdate(Fixtures.reading());
+        currentEtag = current().getHeader("ETag");
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventStream.shutdown();
+        registry.shutdown();
+        scheduler.shutdown();
+        dispatcher.shutdown();
+        channels.shutdown();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse current() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/weather/current");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.current(new ServletWebRequest(request, response), response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse currentNotModified() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/weather/current");
+        request.addHeader("If-None-Match", currentEtag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.current(new ServletWebRequest(request, response), response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse observers() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/weather/observers");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getObservers(new ServletWebRequest(request, response), response);
+        return response;
+    }
+
+    @Benchmark
+    public ResponseEntity<?> history() {
+        return controller.history(null, null, 100);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> manualUpdate() {
+        return controller.manualUpdate(manualInput);
+    }
+}
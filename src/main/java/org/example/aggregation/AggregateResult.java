@@ -0,0 +1,68 @@
+package org.example.aggregation;
+
+import java.time.Instant;
+
+/**
+ * Aggregates of one metric over one window. Statistics are null when the window is empty.
+ */
+public class AggregateResult {
+    private final Instant windowStart;
+    private final Instant windowEnd;
+    private final long count;
+    private final Double min;
+    private final Double max;
+    private final Double avg;
+    private final Double p50;
+    private final Double p95;
+    private final Double p99;
+
+    AggregateResult(long windowStartMillis, long windowEndMillis, long count, double sum,
+                    double min, double max, QuantileSketch sketch) {
+        this.windowStart = Instant.ofEpochMilli(windowStartMillis);
+        this.windowEnd = Instant.ofEpochMilli(windowEndMillis);
+        this.count = count;
+        boolean empty = count == 0;
+        this.min = empty ? null : min;
+        this.max = empty ? null : max;
+        this.avg = empty ? null : sum / count;
+        this.p50 = empty ? null : sketch.quantile(0.50);
+        this.p95 = empty ? null : sketch.quantile(0.95);
+        this.p99 = empty ? null : sketch.quantile(0.99);
+    }
+
+    public Instant getWindowStart() {
+        return windowStart;
+    }
+
+    public Instant getWindowEnd() {
+        return windowEnd;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Double getMin() {
+        return min;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    public Double getAvg() {
+        return avg;
+    }
+
+    public Double getP50() {
+        return p50;
+    }
+
+    public Double getP95() {
+        return p95;
+    }
+
+    public Double getP99() {
+        return p99;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.aggregation;
+
+/**
+ * Growable ring-buffer deque of primitive longs, used for the monotonic min/max queues.
+ */
+final class LongDeque {
+    private long[] elements = new long[16];
+    private int head;
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long peekFirst() {
+        return elements[head];
+    }
+
+    long peekLast() {
+        return elements[(head + size - 1) & (elements.length - 1)];
+    }
+
+    void addLast(long value) {
+        if (size == elements.length) grow();
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    long pollFirst() {
+        long value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    long pollLast() {
+        size--;
+        return elements[(head + size) & (elements.length - 1)];
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        long[] grown = new long[elements.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[(head + i) & (elements.length - 1)];
+        }
+        elements = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-width histogram over a bounded value range used to answer quantile queries.
+ *
+ * Values outside the range are clamped into the first or last bucket. Counts can be added,
+ * removed (for sliding windows) and merged, all in O(1); a quantile query walks the buckets
+ * and never looks at individual readings. Accuracy is half a bucket width.
+ */
+public class QuantileSketch {
+    private final double lowerBound;
+    private final double bucketWidth;
+    private final long[] counts;
+    private long total;
+
+    public QuantileSketch(double lowerBound, double upperBound, double bucketWidth) {
+        this.lowerBound = lowerBound;
+        this.bucketWidth = bucketWidth;
+        this.counts = new long[(int) Math.ceil((upperBound - lowerBound) / bucketWidth) + 1];
+    }
+
+    public void add(double value) {
+        counts[bucketOf(value)]++;
+        total++;
+    }
+
+    public void remove(double value) {
+        int bucket = bucketOf(value);
+        if (counts[bucket] > 0) {
+            counts[bucket]--;
+            total--;
+        }
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.counts.length != counts.length || other.lowerBound != lowerBound || other.bucketWidth != bucketWidth) {
+            throw new IllegalArgumentException("Sketches must share the same bucket layout to be merged");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        total = 0;
+    }
+
+    public long getCount() {
+        return total;
+    }
+
+    /**
+     * Returns the value at quantile {@code q} (0..1), or NaN when the sketch is empty.
+     */
+    public double quantile(double q) {
+        if (total == 0) return Double.NaN;
+        long rank = (long) Math.ceil(q * total);
+        if (rank < 1) rank = 1;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return lowerBound + (i + 0.5) * bucketWidth;
+        }
+        return lowerBound + (counts.length - 0.5) * bucketWidth;
+    }
+
+    private int bucketOf(double value) {
+        int bucket = (int) ((value - lowerBound) / bucketWidth);
+        if (bucket < 0) return 0;
+        return Math.min(bucket, counts.length - 1);
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.aggregation;
+
+import org.example.model.Metric;
+
+/**
+ * Time-based sliding window over one metric.
+ *
+ * Samples live in a primitive ring that grows up to {@code capacity}; the running sum, the
+ * quantile sketch and the monotonic min/max deques are all maintained incrementally as samples
+ * enter and expire, so each update costs amortised O(1).
+ *
+ * Expiry walks the ring from its oldest end, so the ring is kept in time order: a sample older
+ * than the newest one is clamped to the newest time if it still falls inside the window, and
+ * dropped otherwise. When the ring is full the oldest sample is evicted early and the result
+ * reports the shortened span it actually covers.
+ */
+class SlidingWindow {
+    private final long lengthMillis;
+    private final int capacity;
+    private final QuantileSketch sketch;
+    private final LongDeque minQueue = new LongDeque();
+    private final LongDeque maxQueue = new LongDeque();
+    private long[] times;
+    private double[] values;
+    private int start;
+    private int size;
+    private long firstSequence;
+    private double sum;
+    private long newestMillis = Long.MIN_VALUE;
+    private long evictedEarlyMillis = Long.MIN_VALUE;
+
+    SlidingWindow(long lengthMillis, int capacity, Metric metric, double bucketWidth) {
+        this.lengthMillis = lengthMillis;
+        this.capacity = Math.max(1, capacity);
+        this.times = new long[Math.min(64, this.capacity)];
+        this.values = new double[times.length];
+        this.sketch = new QuantileSketch(metric.getLowerBound(), metric.getUpperBound(), bucketWidth);
+    }
+
+    /**
+     * Returns false if the sample was too old for the window and dropped.
+     */
+    boolean add(long epochMillis, double value) {
+        if (epochMillis < newestMillis) {
+            if (epochMillis < newestMillis - lengthMillis) return false;
+            epochMillis = newestMillis;
+        }
+        newestMillis = epochMillis;
+        if (size == capacity) {
+            evictedEarlyMillis = times[start];
+            evictFirst();
+        } else if (size == times.length) {
+            grow();
+        }
+        int slot = (start + size) % times.length;
+        times[slot] = epochMillis;
+        values[slot] = value;
+        long sequence = firstSequence + size;
+        size++;
+        sum += value;
+        sketch.add(value);
+        while (!maxQueue.isEmpty() && valueAt(maxQueue.peekLast()) <= value) maxQueue.pollLast();
+        maxQueue.addLast(sequence);
+        while (!minQueue.isEmpty() && valueAt(minQueue.peekLast()) >= value) minQueue.pollLast();
+        minQueue.addLast(sequence);
+        evictUntil(epochMillis);
+        return true;
+    }
+
+    AggregateResult result(long nowMillis) {
+        evictUntil(nowMillis);
+        double min = size == 0 ? Double.NaN : valueAt(minQueue.peekFirst());
+        double max = size == 0 ? Double.NaN : valueAt(maxQueue.peekFirst());
+        // Samples evicted for capacity leave the window covering less than its full length.
+        long windowStart = Math.max(nowMillis - lengthMillis, evictedEarlyMillis);
+        return new AggregateResult(windowStart, nowMillis, size, sum, min, max, sketch);
+    }
+
+    private void evictUntil(long nowMillis) {
+        long cutoff = nowMillis - lengthMillis;
+        while (size > 0 && times[start] < cutoff) {
+            evictFirst();
+        }
+        if (size == 0) sum = 0;
+    }
+
+    private void evictFirst() {
+        double value = values[start];
+        sum -= value;
+        sketch.remove(value);
+        if (minQueue.peekFirst() == firstSequence) minQueue.pollFirst();
+        if (maxQueue.peekFirst() == firstSequence) maxQueue.pollFirst();
+        start = (start + 1) % times.length;
+        size--;
+        firstSequence++;
+    }
+
+    private double valueAt(long sequence) {
+        return values[(int) ((start + (sequence - firstSequence)) % times.length)];
+    }
+
+    private void grow() {
+        int length = (int) Math.min((long) times.length * 2, capacity);
+        long[] grownTimes = new long[length];
+        double[] grownValues = new double[length];
+        for (int i = 0; i < size; i++) {
+            int slot = (start + i) % times.length;
+            grownTimes[i] = times[slot];
+            grownValues[i] = values[slot];
+        }
+        times = grownTimes;
+        values = grownValues;
+        start = 0;
+    }
+}
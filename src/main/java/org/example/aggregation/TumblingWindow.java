@@ -0,0 +1,67 @@
+package org.example.aggregation;
+
+import org.example.model.Metric;
+
+/**
+ * Fixed, non-overlapping windows aligned to the epoch, assigned by each reading's own timestamp.
+ * Keeps running aggregates for the window in progress and the finished result of the one before
+ * it; a reading that belongs to an already closed window is dropped.
+ */
+class TumblingWindow {
+    private final long lengthMillis;
+    private final QuantileSketch sketch;
+    private long currentStart = Long.MIN_VALUE;
+    private long count;
+    private double sum;
+    private double min;
+    private double max;
+    private AggregateResult previous;
+
+    TumblingWindow(long lengthMillis, Metric metric, double bucketWidth) {
+        this.lengthMillis = lengthMillis;
+        this.sketch = new QuantileSketch(metric.getLowerBound(), metric.getUpperBound(), bucketWidth);
+    }
+
+    /**
+     * Returns false if the reading belongs to a window that has already closed and was dropped.
+     */
+    boolean add(long epochMillis, double value) {
+        if (epochMillis < currentStart) return false;
+        advanceTo(epochMillis);
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        count++;
+        sum += value;
+        sketch.add(value);
+        return true;
+    }
+
+    AggregateResult current(long nowMillis) {
+        advanceTo(nowMillis);
+        return new AggregateResult(currentStart, currentStart + lengthMillis, count, sum, min, max, sketch);
+    }
+
+    AggregateResult previous(long nowMillis) {
+        advanceTo(nowMillis);
+        return previous;
+    }
+
+    private void advanceTo(long epochMillis) {
+        long windowStart = Math.floorDiv(epochMillis, lengthMillis) * lengthMillis;
+        if (windowStart <= currentStart) return;
+        if (currentStart != Long.MIN_VALUE) {
+            previous = windowStart == currentStart + lengthMillis
+                    ? new AggregateResult(currentStart, windowStart, count, sum, min, max, sketch)
+                    : new AggregateResult(windowStart - lengthMillis, windowStart, 0, 0, 0, 0, sketch);
+        }
+        currentStart = windowStart;
+        count = 0;
+        sum = 0;
+        sketch.clear();
+    }
+}
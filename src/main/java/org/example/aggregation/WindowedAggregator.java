@@ -0,0 +1,125 @@
+package org.example.aggregation;
+
+import org.example.model.Metric;
+import org.example.model.ReadingSlab;
+import org.example.model.WeatherReading;
+import org.example.service.StationListener;
+import org.example.service.StationSnapshot;
+import org.example.service.WeatherStation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incremental min/max/avg/percentile aggregation over the reading stream.
+ *
+ * For every configured window length and metric it keeps one sliding window (the last N
+ * minutes, up to now) and one tumbling window (epoch-aligned N-minute buckets). Both are
+ * updated as readings are committed, so queries never rescan the history.
+ *
+ * Readings are placed by their observation time, not their arrival. Times in the future are
+ * clamped to now, so one skewed sensor clock cannot roll the windows forward. Readings too old
+ * for a window, because it has already closed or expired them, are dropped and counted as late.
+ * Each sliding window keeps at most {@code max-samples} readings.
+ */
+@Component
+public class WindowedAggregator implements StationListener {
+    private final Map<String, WindowSet> windows = new LinkedHashMap<>();
+    private long lateReadings;
+
+    public WindowedAggregator(@Value("${weather.aggregation.windows:1m,5m,1h}") String[] windowLabels,
+                              @Value("${weather.aggregation.bucket-width:0.1}") double bucketWidth,
+                              @Value("${weather.aggregation.max-samples:65536}") int maxSamples) {
+        for (String label : windowLabels) {
+            String trimmed = label.trim();
+            long lengthMillis = DurationStyle.detectAndParse(trimmed).toMillis();
+            if (lengthMillis <= 0) {
+                throw new IllegalArgumentException("Aggregation window must be positive: " + trimmed);
+            }
+            windows.put(trimmed, new WindowSet(lengthMillis, maxSamples, bucketWidth));
+        }
+    }
+
+    @Override
+    public void onReading(WeatherStation station, StationSnapshot snapshot) {
+        add(snapshot.getData());
+    }
+
+    @Override
+    public synchronized void onReadings(WeatherStation station, StationSnapshot snapshot, ReadingSlab readings) {
+        long nowMillis = System.currentTimeMillis();
+        ReadingSlab.Cursor cursor = readings.cursor();
+        while (cursor.next()) {
+            add(cursor, nowMillis);
+        }
+    }
+
+    public synchronized void add(WeatherReading data) {
+        add(data, System.currentTimeMillis());
+    }
+
+    private void add(WeatherReading data, long nowMillis) {
+        long epochMillis = Math.min(data.getObservedAtMillis(), nowMillis);
+        boolean late = false;
+        for (WindowSet set : windows.values()) {
+            for (Metric metric : Metric.values()) {
+                double value = metric.valueOf(data);
+                late |= !set.sliding.get(metric).add(epochMillis, value);
+                late |= !set.tumbling.get(metric).add(epochMillis, value);
+            }
+        }
+        if (late) lateReadings++;
+    }
+
+    /**
+     * Readings that were too old for at least one window and left out of it.
+     */
+    public synchronized long getLateReadings() {
+        return lateReadings;
+    }
+
+    public Set<String> getWindows() {
+        return windows.keySet();
+    }
+
+    public boolean hasWindow(String window) {
+        return windows.containsKey(window);
+    }
+
+    public synchronized AggregateResult sliding(String window, Metric metric) {
+        return require(window).sliding.get(metric).result(System.currentTimeMillis());
+    }
+
+    public synchronized AggregateResult tumblingCurrent(String window, Metric metric) {
+        return require(window).tumbling.get(metric).current(System.currentTimeMillis());
+    }
+
+    public synchronized AggregateResult tumblingPrevious(String window, Metric metric) {
+        return require(window).tumbling.get(metric).previous(System.currentTimeMillis());
+    }
+
+    private WindowSet require(String window) {
+        WindowSet set = windows.get(window);
+        if (set == null) {
+            throw new IllegalArgumentException("Unknown window: " + window + ". Available: " + windows.keySet());
+        }
+        return set;
+    }
+
+    private static final class WindowSet {
+        private final Map<Metric, SlidingWindow> sliding = new EnumMap<>(Metric.class);
+        private final Map<Metric, TumblingWindow> tumbling = new EnumMap<>(Metric.class);
+
+        private WindowSet(long lengthMillis, int maxSamples, double bucketWidth) {
+            for (Metric metric : Metric.values()) {
+                sliding.put(metric, new SlidingWindow(lengthMillis, maxSamples, metric, bucketWidth));
+                tumbling.put(metric, new TumblingWindow(lengthMillis, metric, bucketWidth));
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.cli;
 
 import org.example.model.WeatherData;
+import org.example.service.StationRegistry;
 import org.example.service.WeatherStation;
 import org.example.strategy.UpdateStrategy;
 import org.springframework.boot.CommandLineRunner;
@@ -10,16 +11,19 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 public class WeatherCLI implements CommandLineRunner {
     private final WeatherStation station;
+    private final StationRegistry registry;
     private final Map<String, UpdateStrategy> strategiesByName;
     private final Scanner scanner = new Scanner(System.in);
 
-    public WeatherCLI(WeatherStation station, List<UpdateStrategy> strategies) {
+    public WeatherCLI(WeatherStation station, StationRegistry registry, List<UpdateStrategy> strategies) {
         this.station = station;
+        this.registry = registry;
         this.strategiesByName = strategies.stream()
                 .collect(Collectors.toMap(
                         s -> s.getName().toUpperCase(),
@@ -90,7 +94,10 @@ public class WeatherCLI implements CommandLineRunner {
         }
 
         try {
-            station.setStrategy(strategy);
+            write(s -> {
+                s.setStrategy(strategy);
+                return null;
+            });
             System.out.println("✓ Strategy set to: " + strategy.getName());
         } catch (Exception e) {
             System.out.println("Error: " + e.getMessage());
@@ -109,7 +116,7 @@ public class WeatherCLI implements CommandLineRunner {
         }
 
         try {
-            WeatherData data = station.triggerUpdate(null);
+            WeatherData data = write(s -> s.triggerUpdate(null));
             System.out.println("✓ Poll successful:");
             printWeatherData(data);
         } catch (Exception e) {
@@ -135,7 +142,7 @@ public class WeatherCLI implements CommandLineRunner {
             double wind = Double.parseDouble(scanner.nextLine().trim());
 
             WeatherData input = new WeatherData(temp, humidity, wind, Instant.now());
-            WeatherData data = station.triggerUpdate(input);
+            WeatherData data = write(s -> s.triggerUpdate(input));
 
             System.out.println("✓ Manual update successful:");
             printWeatherData(data);
@@ -166,15 +173,15 @@ public class WeatherCLI implements CommandLineRunner {
         try {
             switch (typeChoice) {
                 case "1" -> {
-                    added = station.subscribePhone(id);
+                    added = write(s -> s.subscribePhone(id));
                     type = "phone";
                 }
                 case "2" -> {
-                    added = station.subscribeWebApp(id);
+                    added = write(s -> s.subscribeWebApp(id));
                     type = "webapp";
                 }
                 case "3" -> {
-                    added = station.subscribeOutdoor(id);
+                    added = write(s -> s.subscribeOutdoor(id));
                     type = "outdoor";
                 }
                 default -> {
@@ -201,7 +208,7 @@ public class WeatherCLI implements CommandLineRunner {
         }
 
         try {
-            boolean removed = station.unsubscribe(id);
+            boolean removed = write(s -> s.unsubscribe(id));
             if (removed) {
                 System.out.println("✓ Observer unsubscribed: " + id);
             } else {
@@ -237,5 +244,9 @@ public class WeatherCLI implements CommandLineRunner {
         System.out.println("  Wind: " + String.format("%.1f", data.getWindKph()) + " kph");
         System.out.println("  Observed At: " + data.getObservedAt());
     }
+
+    private <T> T write(Function<WeatherStation, T> action) {
+        return registry.execute(station.getId(), action);
+    }
 }
 
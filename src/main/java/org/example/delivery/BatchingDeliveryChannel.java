@@ -0,0 +1,150 @@
+package org.example.delivery;
+
+import org.example.service.ObserverDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Channel with its own bounded queue, batcher thread and sender pool.
+ *
+ * The batcher collects up to {@code batchSize} deliveries or waits at most {@code lingerMillis}
+ * after the first one, then hands the batch to the transport on one of {@code concurrency}
+ * sender threads. When all senders are busy the batcher waits and the queue absorbs the
+ * backlog; once it is full new deliveries are dropped, and the drops are logged as one count
+ * per batch rather than one line per delivery. Nothing is shared with other channels, so a
+ * slow transport only ever backs up its own queue.
+ */
+public class BatchingDeliveryChannel implements DeliveryChannel {
+    private static final Logger log = LoggerFactory.getLogger(BatchingDeliveryChannel.class);
+
+    private final String name;
+    private final DeliveryTransport transport;
+    private final BlockingQueue<Delivery> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final Semaphore inFlight;
+    private final ExecutorService senders;
+    private final Thread batcher;
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong unreportedDrops = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private volatile boolean running = true;
+
+    public BatchingDeliveryChannel(String name, DeliveryTransport transport, int queueCapacity,
+                                   int batchSize, long lingerMillis, int concurrency) {
+        this.name = name;
+        this.transport = transport;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, lingerMillis));
+        this.inFlight = new Semaphore(Math.max(1, concurrency));
+        this.senders = Executors.newFixedThreadPool(Math.max(1, concurrency), ObserverDispatcher.namedDaemon("delivery-" + name));
+        this.batcher = ObserverDispatcher.namedDaemon("delivery-" + name + "-batcher").newThread(this::batchLoop);
+        this.batcher.start();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean offer(Delivery delivery) {
+        if (running && queue.offer(delivery)) return true;
+        dropped.incrementAndGet();
+        if (!running) {
+            delivery.fail("channel '" + name + "' closed");
+        } else if (delivery.drop()) {
+            unreportedDrops.incrementAndGet();
+        }
+        return false;
+    }
+
+    private void batchLoop() {
+        while (running) {
+            try {
+                Delivery first = queue.take();
+                List<Delivery> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) continue;
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    Delivery next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                reportDrops();
+                inFlight.acquire();
+                senders.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void reportDrops() {
+        long drops = unreportedDrops.getAndSet(0);
+        if (drops > 0) {
+            log.warn("❌ Channel '{}' queue is full: dropped {} deliveries", name, drops);
+        }
+    }
+
+    private void send(List<Delivery> batch) {
+        try {
+            transport.send(name, batch);
+            delivered.addAndGet(batch.size());
+        } catch (Exception e) {
+            log.warn("❌ Channel '{}' failed to send a batch of {}: {}", name, batch.size(), e.getMessage());
+            for (Delivery delivery : batch) {
+                delivery.fail(e.getMessage());
+            }
+        } finally {
+            batches.incrementAndGet();
+            inFlight.release();
+        }
+    }
+
+    @Override
+    public int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public long getDelivered() {
+        return delivered.get();
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public long getBatches() {
+        return batches.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        batcher.interrupt();
+        senders.shutdownNow();
+        for (Delivery pending; (pending = queue.poll()) != null; ) {
+            pending.fail("channel '" + name + "' closed");
+        }
+    }
+}
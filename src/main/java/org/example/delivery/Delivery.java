@@ -0,0 +1,163 @@
+package org.example.delivery;
+
+import org.example.model.WeatherData;
+import org.example.observer.WeatherObserver;
+import org.example.tracing.UpdateTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One pending hand-off of readings to one observer. The future completes when the
+ * readings were delivered, failed or were dropped; it never completes exceptionally.
+ *
+ * Each delivery is a span of the update's trace, bound to the thread that runs it. Its timeout
+ * is measured from {@link #getStartedNanos() when it starts running}, not from when it was
+ * queued, so waiting behind other observers never counts against it.
+ */
+public final class Delivery {
+    private static final Logger log = LoggerFactory.getLogger(Delivery.class);
+
+    private final WeatherObserver observer;
+    private final List<WeatherData> readings;
+    private final CompletableFuture<Void> result;
+    private final UpdateTrace trace;
+    private final long spanId;
+    private final boolean slowLane;
+    private final DeliveryListener listener;
+    private final long createdNanos = System.nanoTime();
+    private volatile long startedNanos;
+    private volatile boolean started;
+    private Thread runner;
+    private boolean timedOut;
+
+    public Delivery(WeatherObserver observer, List<WeatherData> readings, CompletableFuture<Void> result) {
+        this(observer, readings, result, null, false, DeliveryListener.NONE);
+    }
+
+    /**
+     * @param trace the update this delivery belongs to; may be null
+     */
+    public Delivery(WeatherObserver observer, List<WeatherData> readings, CompletableFuture<Void> result,
+                    UpdateTrace trace, boolean slowLane, DeliveryListener listener) {
+        this.observer = observer;
+        this.readings = readings;
+        this.result = result;
+        this.trace = trace;
+        this.spanId = UpdateTrace.nextSpanId();
+        this.slowLane = slowLane;
+        this.listener = listener;
+    }
+
+    public WeatherObserver getObserver() {
+        return observer;
+    }
+
+    public List<WeatherData> getReadings() {
+        return readings;
+    }
+
+    public CompletableFuture<Void> getResult() {
+        return result;
+    }
+
+    public UpdateTrace getTrace() {
+        return trace;
+    }
+
+    public long getSpanId() {
+        return spanId;
+    }
+
+    public boolean isSlowLane() {
+        return slowLane;
+    }
+
+    public long getCreatedNanos() {
+        return createdNanos;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * {@link System#nanoTime()} at which the observer was called; only meaningful once started.
+     */
+    public long getStartedNanos() {
+        return startedNanos;
+    }
+
+    /**
+     * Releases the update from waiting for this delivery and interrupts the observer if it is
+     * running. Returns false if the delivery had already completed.
+     */
+    public boolean timeOut() {
+        if (!result.complete(null)) return false;
+        synchronized (this) {
+            timedOut = true;
+            if (runner != null) runner.interrupt();
+        }
+        return true;
+    }
+
+    /**
+     * Hands the readings to the observer on the calling thread.
+     */
+    public void run() {
+        synchronized (this) {
+            // Timed out or dropped before it got to run.
+            if (result.isDone()) return;
+            runner = Thread.currentThread();
+        }
+        startedNanos = System.nanoTime();
+        started = true;
+        UpdateTrace previous = null;
+        if (trace != null) {
+            previous = trace.enter();
+            MDC.put(UpdateTrace.SPAN_ID_KEY, UpdateTrace.toHex(spanId));
+        }
+        DeliveryOutcome outcome;
+        try {
+            if (readings.size() == 1) {
+                observer.update(readings.get(0));
+            } else {
+                observer.updateBatch(readings);
+            }
+            outcome = result.complete(null) ? DeliveryOutcome.DELIVERED : DeliveryOutcome.TIMED_OUT;
+        } catch (Throwable t) {
+            outcome = result.isDone() ? DeliveryOutcome.TIMED_OUT : DeliveryOutcome.FAILED;
+            fail(t.getMessage());
+        }
+        try {
+            listener.onCompleted(this, System.nanoTime() - startedNanos, outcome);
+        } finally {
+            synchronized (this) {
+                runner = null;
+                // Don't let a timeout interrupt leak into whatever the thread runs next.
+                if (timedOut) Thread.interrupted();
+            }
+            if (trace != null) {
+                MDC.remove(UpdateTrace.SPAN_ID_KEY);
+                UpdateTrace.restore(previous);
+            }
+        }
+    }
+
+    /**
+     * Gives up on the delivery without logging, for callers that report drops in bulk.
+     * Returns false if it had already completed.
+     */
+    public boolean drop() {
+        return result.complete(null);
+    }
+
+    public void fail(String reason) {
+        if (result.complete(null)) {
+            log.warn("❌ Observer [{}] failed: {}", observer.getId(), reason);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.delivery;
+
+/**
+ * A delivery path for one kind of observer (push notifications, websockets, LED panels...).
+ */
+public interface DeliveryChannel {
+    String getName();
+
+    /**
+     * Queues a delivery without blocking. Returns false if the channel cannot take it: when the
+     * queue is full the delivery is dropped quietly through {@link Delivery#drop()} and counted,
+     * with drops logged as one count per batch; when the channel is closed the delivery fails.
+     */
+    boolean offer(Delivery delivery);
+
+    int getQueued();
+
+    long getDelivered();
+
+    long getDropped();
+
+    long getBatches();
+
+    void close();
+}
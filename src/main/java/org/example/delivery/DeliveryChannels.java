@@ -0,0 +1,64 @@
+package org.example.delivery;
+
+import jakarta.annotation.PreDestroy;
+import org.example.metrics.WeatherMetrics;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates and owns one {@link DeliveryChannel} per channel name.
+ *
+ * Each channel is configured under {@code weather.delivery.<name>.*} (queue-capacity,
+ * batch-size, linger-ms, concurrency); channels named by an observer but not configured
+ * get the defaults below.
+ */
+@Component
+public class DeliveryChannels {
+    private static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    private static final int DEFAULT_BATCH_SIZE = 32;
+    private static final long DEFAULT_LINGER_MS = 10;
+    private static final int DEFAULT_CONCURRENCY = 2;
+
+    private final ConcurrentHashMap<String, DeliveryChannel> channels = new ConcurrentHashMap<>();
+    private final Environment environment;
+    private final DeliveryTransport transport;
+    private final WeatherMetrics metrics;
+
+    public DeliveryChannels(Environment environment, DeliveryTransport transport, WeatherMetrics metrics) {
+        this.environment = environment;
+        this.transport = transport;
+        this.metrics = metrics;
+    }
+
+    public DeliveryChannel get(String name) {
+        return channels.computeIfAbsent(name, this::create);
+    }
+
+    public Collection<DeliveryChannel> getChannels() {
+        return channels.values();
+    }
+
+    private DeliveryChannel create(String name) {
+        String prefix = "weather.delivery." + name + ".";
+        DeliveryChannel channel = new BatchingDeliveryChannel(name, transport,
+                environment.getProperty(prefix + "queue-capacity", Integer.class, DEFAULT_QUEUE_CAPACITY),
+                environment.getProperty(prefix + "batch-size", Integer.class, DEFAULT_BATCH_SIZE),
+                environment.getProperty(prefix + "linger-ms", Long.class, DEFAULT_LINGER_MS),
+                environment.getProperty(prefix + "concurrency", Integer.class, DEFAULT_CONCURRENCY));
+        metrics.gauge("weather.delivery.queued", "Deliveries waiting in the channel queue", channel,
+                DeliveryChannel::getQueued, "channel", name);
+        metrics.counter("weather.delivery.delivered", "Deliveries handed to the transport", channel,
+                DeliveryChannel::getDelivered, "channel", name);
+        metrics.counter("weather.delivery.dropped", "Deliveries dropped because the channel queue was full", channel,
+                DeliveryChannel::getDropped, "channel", name);
+        return channel;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(DeliveryChannel::close);
+    }
+}
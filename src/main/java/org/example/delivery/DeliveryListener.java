@@ -0,0 +1,12 @@
+package org.example.delivery;
+
+/**
+ * Told about every {@link Delivery} that ran, on the thread that ran it.
+ */
+@FunctionalInterface
+public interface DeliveryListener {
+    DeliveryListener NONE = (delivery, durationNanos, outcome) -> {
+    };
+
+    void onCompleted(Delivery delivery, long durationNanos, DeliveryOutcome outcome);
+}
@@ -0,0 +1,10 @@
+package org.example.delivery;
+
+public enum DeliveryOutcome {
+    DELIVERED,
+    FAILED,
+    /**
+     * The observer finished (or was interrupted) after its timeout had already released the update.
+     */
+    TIMED_OUT
+}
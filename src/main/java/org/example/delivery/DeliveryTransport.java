@@ -0,0 +1,11 @@
+package org.example.delivery;
+
+import java.util.List;
+
+/**
+ * Sends a batch of deliveries for one channel. Implementations must complete the
+ * result of every delivery they accept; a thrown exception fails the rest of the batch.
+ */
+public interface DeliveryTransport {
+    void send(String channel, List<Delivery> batch) throws Exception;
+}
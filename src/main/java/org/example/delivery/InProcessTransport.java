@@ -0,0 +1,34 @@
+package org.example.delivery;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stub transport that delivers in-process by calling the observers directly.
+ *
+ * A per-batch latency can be simulated with {@code weather.delivery.<channel>.simulated-latency-ms}
+ * to exercise batching and channel isolation without a real push or LED backend; it is read once
+ * per channel.
+ */
+@Component
+public class InProcessTransport implements DeliveryTransport {
+    private final Environment environment;
+    private final ConcurrentHashMap<String, Long> latencies = new ConcurrentHashMap<>();
+
+    public InProcessTransport(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void send(String channel, List<Delivery> batch) throws Exception {
+        long latency = latencies.computeIfAbsent(channel, name ->
+                environment.getProperty("weather.delivery." + name + ".simulated-latency-ms", Long.class, 0L));
+        if (latency > 0) Thread.sleep(latency);
+        for (Delivery delivery : batch) {
+            delivery.run();
+        }
+    }
+}
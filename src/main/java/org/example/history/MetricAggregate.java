@@ -0,0 +1,54 @@
+package org.example.history;
+
+/**
+ * Running count, sum, minimum and maximum of one metric, plus how many readings had to be
+ * examined individually to produce them.
+ */
+public final class MetricAggregate {
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private long scanned;
+
+    void add(long count, double sum, double min, double max) {
+        if (count == 0) return;
+        this.count += count;
+        this.sum += sum;
+        this.min = Math.min(this.min, min);
+        this.max = Math.max(this.max, max);
+    }
+
+    void addScanned(long readings) {
+        scanned += readings;
+    }
+
+    public void merge(MetricAggregate other) {
+        add(other.count, other.sum, other.min, other.max);
+        scanned += other.scanned;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    public long getScanned() {
+        return scanned;
+    }
+}
@@ -0,0 +1,386 @@
+package org.example.history;
+
+import org.example.model.Metric;
+import org.example.model.ReadingSlab;
+import org.example.model.WeatherData;
+import org.example.service.StationListener;
+import org.example.service.StationSnapshot;
+import org.example.service.WeatherStation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory time series of committed readings.
+ *
+ * Readings are stored column-wise in preallocated primitive arrays used as a ring buffer
+ * (three doubles and one epoch-millis long, 32 bytes per reading), so retaining millions of
+ * points costs no per-reading objects. Retention is bounded by capacity and, optionally,
+ * by age. Every appended reading gets the next sequence number, starting at 0, so consumers
+ * can resume reading from where they left off for as long as the reading is retained.
+ *
+ * The ring is divided into chunks of {@value #CHUNK_SIZE} slots, each with a running summary
+ * (time range, and count/sum/min/max per metric) of the readings written into it since its
+ * first slot was last overwritten. {@link #scanChunk} uses the summaries to skip or answer
+ * whole chunks without touching their readings.
+ */
+@Component
+public class ReadingHistory implements StationListener {
+    public static final int CHUNK_SIZE = 4096;
+    private static final int METRICS = Metric.values().length;
+
+    private final int capacity;
+    private final long maxAgeMillis;
+    private final long[] observedAtMillis;
+    private final double[] temperature;
+    private final double[] humidity;
+    private final double[] wind;
+    private final long[] chunkMinMillis;
+    private final long[] chunkMaxMillis;
+    private final int[] chunkCount;
+    private final double[][] chunkSum = new double[METRICS][];
+    private final double[][] chunkMin = new double[METRICS][];
+    private final double[][] chunkMax = new double[METRICS][];
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long head;
+    private long tail;
+
+    public ReadingHistory(@Value("${weather.history.capacity:100000}") int capacity,
+                          @Value("${weather.history.max-age:0s}") Duration maxAge) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("History capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.maxAgeMillis = maxAge.toMillis();
+        this.observedAtMillis = new long[capacity];
+        this.temperature = new double[capacity];
+        this.humidity = new double[capacity];
+        this.wind = new double[capacity];
+        int chunks = (capacity + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunkMinMillis = new long[chunks];
+        this.chunkMaxMillis = new long[chunks];
+        this.chunkCount = new int[chunks];
+        for (int m = 0; m < METRICS; m++) {
+            chunkSum[m] = new double[chunks];
+            chunkMin[m] = new double[chunks];
+            chunkMax[m] = new double[chunks];
+        }
+    }
+
+    @Override
+    public void onReading(WeatherStation station, StationSnapshot snapshot) {
+        append(snapshot.getData());
+    }
+
+    @Override
+    public void onReadings(WeatherStation station, StationSnapshot snapshot, ReadingSlab readings) {
+        appendAll(readings);
+    }
+
+    public void append(WeatherData data) {
+        append(data.getObservedAt().toEpochMilli(), data.getTemperatureCelsius(),
+                data.getHumidityPercent(), data.getWindKph());
+    }
+
+    public void append(long epochMillis, double temperatureCelsius, double humidityPercent, double windKph) {
+        lock.writeLock().lock();
+        try {
+            write(epochMillis, temperatureCelsius, humidityPercent, windKph);
+            evictExpired(epochMillis);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a batch of readings under a single lock acquisition.
+     */
+    public void appendAll(List<WeatherData> readings) {
+        if (readings.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            long newest = Long.MIN_VALUE;
+            for (WeatherData data : readings) {
+                long epochMillis = data.getObservedAt().toEpochMilli();
+                write(epochMillis, data.getTemperatureCelsius(), data.getHumidityPercent(), data.getWindKph());
+                newest = Math.max(newest, epochMillis);
+            }
+            evictExpired(newest);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a slab of readings under a single lock acquisition, copying the primitives directly.
+     */
+    public void appendAll(ReadingSlab readings) {
+        if (readings.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            long newest = Long.MIN_VALUE;
+            for (int i = 0; i < readings.size(); i++) {
+                long epochMillis = readings.getObservedAtMillis(i);
+                write(epochMillis, readings.getTemperatureCelsius(i), readings.getHumidityPercent(i),
+                        readings.getWindKph(i));
+                newest = Math.max(newest, epochMillis);
+            }
+            evictExpired(newest);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the most recent readings observed within [from, to], oldest first,
+     * at most {@code limit} of them.
+     */
+    public List<WeatherData> range(Instant from, Instant to, int limit) {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        List<WeatherData> result = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            for (long seq = head - 1; seq >= tail && result.size() < limit; seq--) {
+                int slot = (int) (seq % capacity);
+                long t = observedAtMillis[slot];
+                if (t >= fromMillis && t <= toMillis) {
+                    result.add(new WeatherData(temperature[slot], humidity[slot], wind[slot], Instant.ofEpochMilli(t)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Visits up to {@code max} readings in sequence order, starting at {@code fromSequence} or at
+     * the oldest retained reading if that one has already been evicted. Returns the sequence
+     * number to continue from.
+     */
+    public long read(long fromSequence, int max, ReadingVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            long seq = Math.max(fromSequence, tail);
+            long end = Math.min(head, seq + max);
+            for (; seq < end; seq++) {
+                int slot = (int) (seq % capacity);
+                visitor.visit(seq, observedAtMillis[slot], temperature[slot], humidity[slot], wind[slot]);
+            }
+            return seq;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sequence number of the oldest retained reading.
+     */
+    public long getFirstSequence() {
+        lock.readLock().lock();
+        try {
+            return tail;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sequence number the next appended reading will get.
+     */
+    public long getNextSequence() {
+        lock.readLock().lock();
+        try {
+            return head;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getChunkCount() {
+        return chunkCount.length;
+    }
+
+    /**
+     * Adds the readings of one chunk that have a sequence below {@code maxSequence}, were observed
+     * within [fromMillis, toMillis] and whose metric value lies strictly between {@code above} and
+     * {@code below} to the aggregate.
+     *
+     * A chunk whose summary rules out any match is skipped, and one that lies entirely inside
+     * the filters is answered from its summary; only the rest are scanned, under the read lock
+     * for that chunk alone, so writers can interleave between the chunks of a long query.
+     */
+    public ChunkScan scanChunk(int chunk, long maxSequence, Metric metric, long fromMillis, long toMillis,
+                               double above, double below, MetricAggregate aggregate) {
+        lock.readLock().lock();
+        try {
+            long lo = tail;
+            long hi = Math.min(head, maxSequence);
+            if (lo >= hi || chunkCount[chunk] == 0) return ChunkScan.SKIPPED;
+            int m = metric.ordinal();
+            int first = chunk * CHUNK_SIZE;
+            int end = Math.min(first + CHUNK_SIZE, capacity);
+            int writeSlot = (int) (head % capacity);
+            double[] values = column(metric);
+            if (head > capacity && writeSlot > first && writeSlot < end) {
+                // Being overwritten: the summary only covers the newer part, so scan both parts.
+                scan(first, writeSlot, lo, hi, values, false, fromMillis, toMillis, above, below, aggregate);
+                scan(writeSlot, end, lo, hi, values, false, fromMillis, toMillis, above, below, aggregate);
+                return ChunkScan.SCANNED;
+            }
+            if (chunkMaxMillis[chunk] < fromMillis || chunkMinMillis[chunk] > toMillis
+                    || chunkMax[m][chunk] <= above || chunkMin[m][chunk] >= below) {
+                return ChunkScan.SKIPPED;
+            }
+            long firstSequence = sequenceOf(first);
+            boolean retained = firstSequence >= lo && firstSequence + chunkCount[chunk] <= hi;
+            boolean inTime = chunkMinMillis[chunk] >= fromMillis && chunkMaxMillis[chunk] <= toMillis;
+            if (retained && inTime && chunkMin[m][chunk] > above && chunkMax[m][chunk] < below) {
+                aggregate.add(chunkCount[chunk], chunkSum[m][chunk], chunkMin[m][chunk], chunkMax[m][chunk]);
+                return ChunkScan.SUMMARIZED;
+            }
+            scan(first, Math.min(end, first + chunkCount[chunk]), lo, hi, values, inTime, fromMillis, toMillis, above,
+                    below, aggregate);
+            return ChunkScan.SCANNED;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scans slots [from, end), which hold consecutive sequences, restricted to sequences in [lo, hi).
+     */
+    private void scan(int from, int end, long lo, long hi, double[] values, boolean inTime, long fromMillis,
+                      long toMillis, double above, double below, MetricAggregate aggregate) {
+        if (from >= end) return;
+        long firstSequence = sequenceOf(from);
+        if (firstSequence < 0) return;
+        int start = (int) (from + Math.max(0, lo - firstSequence));
+        int stop = (int) Math.min(end, from + Math.max(0, hi - firstSequence));
+        if (start >= stop) return;
+        long count = 0;
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        if (inTime && above == Double.NEGATIVE_INFINITY && below == Double.POSITIVE_INFINITY) {
+            // Plain reduction over the column, which the JIT can unroll and vectorize.
+            for (int s = start; s < stop; s++) {
+                double v = values[s];
+                sum += v;
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+            }
+            count = stop - start;
+        } else {
+            for (int s = start; s < stop; s++) {
+                long t = observedAtMillis[s];
+                double v = values[s];
+                if (t >= fromMillis & t <= toMillis & v > above & v < below) {
+                    count++;
+                    sum += v;
+                    min = Math.min(min, v);
+                    max = Math.max(max, v);
+                }
+            }
+        }
+        aggregate.add(count, sum, min, max);
+        aggregate.addScanned(stop - start);
+    }
+
+    /**
+     * Sequence of the reading currently held in the slot, or -1 if it was never written.
+     */
+    private long sequenceOf(int slot) {
+        long last = head - 1;
+        if (last < 0) return -1;
+        return last - Math.floorMod(last - slot, (long) capacity);
+    }
+
+    private double[] column(Metric metric) {
+        return switch (metric) {
+            case TEMPERATURE -> temperature;
+            case HUMIDITY -> humidity;
+            case WIND -> wind;
+        };
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return (int) (head - tail);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void write(long epochMillis, double temperatureCelsius, double humidityPercent, double windKph) {
+        int slot = (int) (head % capacity);
+        observedAtMillis[slot] = epochMillis;
+        temperature[slot] = temperatureCelsius;
+        humidity[slot] = humidityPercent;
+        wind[slot] = windKph;
+        summarize(slot, epochMillis, temperatureCelsius, humidityPercent, windKph);
+        head++;
+        if (head - tail > capacity) tail = head - capacity;
+    }
+
+    private void summarize(int slot, long epochMillis, double temperatureCelsius, double humidityPercent,
+                           double windKph) {
+        int chunk = slot / CHUNK_SIZE;
+        boolean fresh = slot % CHUNK_SIZE == 0;
+        if (fresh) {
+            chunkMinMillis[chunk] = epochMillis;
+            chunkMaxMillis[chunk] = epochMillis;
+            chunkCount[chunk] = 0;
+        } else {
+            chunkMinMillis[chunk] = Math.min(chunkMinMillis[chunk], epochMillis);
+            chunkMaxMillis[chunk] = Math.max(chunkMaxMillis[chunk], epochMillis);
+        }
+        chunkCount[chunk]++;
+        summarize(Metric.TEMPERATURE.ordinal(), chunk, fresh, temperatureCelsius);
+        summarize(Metric.HUMIDITY.ordinal(), chunk, fresh, humidityPercent);
+        summarize(Metric.WIND.ordinal(), chunk, fresh, windKph);
+    }
+
+    private void summarize(int metric, int chunk, boolean fresh, double value) {
+        if (fresh) {
+            chunkSum[metric][chunk] = value;
+            chunkMin[metric][chunk] = value;
+            chunkMax[metric][chunk] = value;
+        } else {
+            chunkSum[metric][chunk] += value;
+            chunkMin[metric][chunk] = Math.min(chunkMin[metric][chunk], value);
+            chunkMax[metric][chunk] = Math.max(chunkMax[metric][chunk], value);
+        }
+    }
+
+    private void evictExpired(long newestMillis) {
+        if (maxAgeMillis <= 0) return;
+        long cutoff = newestMillis - maxAgeMillis;
+        while (tail < head && observedAtMillis[(int) (tail % capacity)] < cutoff) {
+            tail++;
+        }
+    }
+
+    public enum ChunkScan {
+        SKIPPED,
+        SUMMARIZED,
+        SCANNED
+    }
+
+    public interface ReadingVisitor {
+        void visit(long sequence, long epochMillis, double temperatureCelsius, double humidityPercent, double windKph);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.load;
+
+import org.example.model.WeatherData;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic weather for one synthetic station: temperature follows a daily sine peaking
+ * mid-afternoon around a station-specific mean, humidity moves opposite to it, and wind is
+ * a mean-reverting random walk with occasional gusts. All noise comes from the station's seed.
+ */
+class DiurnalModel {
+    private static final double DAY_MILLIS = 24 * 60 * 60 * 1000.0;
+    private static final double PEAK_HOUR = 15;
+
+    private final SplittableRandom random;
+    private final double meanTemperature;
+    private final double amplitude;
+    private final double meanHumidity;
+    private double wind;
+
+    DiurnalModel(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.meanTemperature = random.nextDouble(-5, 25);
+        this.amplitude = random.nextDouble(3, 9);
+        this.meanHumidity = random.nextDouble(45, 75);
+        this.wind = random.nextDouble(0, 25);
+    }
+
+    WeatherData next(long simulatedMillis) {
+        double phase = 2 * Math.PI * ((simulatedMillis % DAY_MILLIS) / DAY_MILLIS - PEAK_HOUR / 24);
+        double daily = Math.cos(phase);
+        double temperature = meanTemperature + amplitude * daily + gaussian(0.3);
+        double humidity = clamp(meanHumidity - 2.5 * amplitude * daily + gaussian(1.5), 0, 100);
+        wind = clamp(wind + 0.1 * (12 - wind) + gaussian(1.5), 0, 250);
+        double gust = random.nextInt(200) == 0 ? random.nextDouble(10, 40) : 0;
+        return new WeatherData(temperature, humidity, wind + gust, Instant.ofEpochMilli(simulatedMillis));
+    }
+
+    private double gaussian(double sigma) {
+        // Box-Muller on the seeded generator; SplittableRandom has no nextGaussian on Java 17.
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return sigma * Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
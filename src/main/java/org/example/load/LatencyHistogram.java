@@ -0,0 +1,59 @@
+package org.example.load;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of latencies in nanoseconds: each power-of-two range is split
+ * into 16 linear sub-buckets, giving about 6% relative precision from 1 ns to several minutes.
+ */
+class LatencyHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int RANGES = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(RANGES * SUB_BUCKETS);
+
+    void record(long nanos) {
+        counts.incrementAndGet(indexOf(Math.max(0, nanos)));
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int range = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS + 1;
+        int sub = (int) (value >>> (range - 1)) - SUB_BUCKETS;
+        return Math.min(range * SUB_BUCKETS + sub, RANGES * SUB_BUCKETS - 1);
+    }
+
+    /**
+     * Upper bound of the bucket at the index, in nanoseconds.
+     */
+    private static long valueAt(int index) {
+        int range = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (range == 0) return sub;
+        return ((long) (sub + SUB_BUCKETS + 1) << (range - 1)) - 1;
+    }
+
+    long count() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Approximate value at the quantile (0..1) in nanoseconds, or 0 when empty.
+     */
+    long quantile(double q) {
+        long total = count();
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= Math.max(1, rank)) return valueAt(i);
+        }
+        return valueAt(counts.length() - 1);
+    }
+}
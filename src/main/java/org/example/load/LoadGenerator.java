@@ -0,0 +1,202 @@
+package org.example.load;
+
+import jakarta.annotation.PreDestroy;
+import org.example.model.WeatherData;
+import org.example.service.StationRegistry;
+import org.example.strategy.UpdateStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives synthetic readings through the real station path at a fixed rate.
+ *
+ * Each run creates {@code load-NNNNN} stations on the MANUAL strategy, then a pacing thread
+ * submits readings from per-station {@link DiurnalModel}s round-robin through
+ * {@link StationRegistry#submit}, so they go through the shard threads, listeners and observer
+ * fan-out like any other update. At most {@code maxInFlight} readings are outstanding; when the
+ * system falls behind the pacer waits, which shows up as achieved throughput below the target.
+ * The stations are removed when the run ends. A run refuses to start if any of its station ids
+ * is already taken, and a new run cannot start until the previous one has finished tearing down.
+ */
+@Component
+public class LoadGenerator {
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+    private static final String STATION_PREFIX = "load-";
+
+    private final StationRegistry registry;
+    private final UpdateStrategy manualStrategy;
+    private volatile Run current;
+
+    public LoadGenerator(StationRegistry registry, List<UpdateStrategy> strategies) {
+        this.registry = registry;
+        this.manualStrategy = strategies.stream()
+                .filter(s -> "MANUAL".equalsIgnoreCase(s.getName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("MANUAL strategy is required for load generation"));
+    }
+
+    /**
+     * Starts a run in the background. Returns false if the previous run's thread, including its
+     * teardown, has not terminated yet.
+     */
+    public synchronized boolean start(LoadProfile profile) {
+        if (current != null && current.thread.isAlive()) return false;
+        Run run = new Run(profile);
+        current = run;
+        run.thread.start();
+        return true;
+    }
+
+    public void stop() {
+        Run run = current;
+        if (run != null) run.running = false;
+    }
+
+    public LoadReport getReport() {
+        Run run = current;
+        return run == null ? null : run.report();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+
+    static DiurnalModel model(LoadProfile profile, int station) {
+        return new DiurnalModel(profile.seed() ^ (station * 0x9E3779B97F4A7C15L));
+    }
+
+    /**
+     * Simulated time of the {@code emitted}-th reading: the profile's origin plus its nominal slot
+     * at the target rate, scaled. The wall clock only paces submission, so a run that falls behind
+     * still produces the same readings for the same profile.
+     */
+    static long simulatedMillis(LoadProfile profile, long emitted) {
+        return profile.originMillis() + (long) (emitted * 1000.0 / profile.readingsPerSecond() * profile.timeScale());
+    }
+
+    private final class Run {
+        private final LoadProfile profile;
+        private final String[] stationIds;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final Semaphore inFlight;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile String state = "starting";
+        private volatile long submitted;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+
+        private Run(LoadProfile profile) {
+            this.profile = profile;
+            this.stationIds = new String[profile.stations()];
+            this.inFlight = new Semaphore(profile.maxInFlight());
+            this.thread = new Thread(this::execute, "load-generator");
+            thread.setDaemon(true);
+        }
+
+        private void execute() {
+            try {
+                DiurnalModel[] models = setUp();
+                state = "running";
+                generate(models);
+                inFlight.acquireUninterruptibly(profile.maxInFlight());
+                state = "finished";
+            } catch (RuntimeException e) {
+                state = "failed: " + e.getMessage();
+                log.error("❌ Load run failed: {}", e.getMessage());
+            } finally {
+                finishedNanos = System.nanoTime();
+                running = false;
+                tearDown();
+                LoadReport report = report();
+                log.info("📈 Load run {}: {} readings in {} s, {} /s, p99 {} µs", state, report.completed(),
+                        String.format("%.1f", report.elapsedSeconds()), Math.round(report.achievedPerSecond()),
+                        report.p99Micros());
+            }
+        }
+
+        private DiurnalModel[] setUp() {
+            DiurnalModel[] models = new DiurnalModel[stationIds.length];
+            for (int i = 0; i < stationIds.length; i++) {
+                String id = String.format("%s%05d", STATION_PREFIX, i);
+                if (!registry.create(id)) {
+                    throw new IllegalStateException("station '" + id + "' already exists");
+                }
+                // Only stations this run created are torn down.
+                stationIds[i] = id;
+                registry.execute(id, station -> {
+                    station.setStrategy(manualStrategy);
+                    for (int o = 0; o < profile.observersPerStation(); o++) {
+                        station.subscribeWebApp(id + "-observer-" + o);
+                    }
+                    return null;
+                });
+                models[i] = model(profile, i);
+            }
+            return models;
+        }
+
+        private void generate(DiurnalModel[] models) {
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(profile.durationSeconds());
+            startedNanos = start;
+            long emitted = 0;
+            while (running) {
+                long now = System.nanoTime();
+                if (now >= end) break;
+                long due = (long) (profile.readingsPerSecond() * ((now - start) / 1e9));
+                while (emitted < due && running) {
+                    inFlight.acquireUninterruptibly();
+                    int index = (int) (emitted % models.length);
+                    submit(stationIds[index], models[index].next(simulatedMillis(profile, emitted)));
+                    submitted = ++emitted;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+
+        private void submit(String stationId, WeatherData reading) {
+            long submittedAt = System.nanoTime();
+            try {
+                registry.submit(stationId, station -> station.triggerUpdate(reading)).whenComplete((ignored, error) -> {
+                    long elapsed = System.nanoTime() - submittedAt;
+                    latency.record(elapsed);
+                    maxNanos.accumulateAndGet(elapsed, Math::max);
+                    (error == null ? completed : failed).incrementAndGet();
+                    inFlight.release();
+                });
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                inFlight.release();
+            }
+        }
+
+        private void tearDown() {
+            for (String id : stationIds) {
+                if (id != null) registry.remove(id);
+            }
+        }
+
+        private LoadReport report() {
+            long startedAt = startedNanos;
+            long endedAt = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+            double elapsed = startedAt == 0 ? 0 : (endedAt - startedAt) / 1e9;
+            long done = completed.get();
+            return new LoadReport(state, profile, elapsed, submitted, done, failed.get(),
+                    elapsed > 0 ? done / elapsed : 0,
+                    latency.quantile(0.50) / 1000, latency.quantile(0.95) / 1000, latency.quantile(0.99) / 1000,
+                    maxNanos.get() / 1000);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.load;
+
+/**
+ * Parameters of one load run. Readings are spread round-robin over {@code stations} synthetic
+ * stations at {@code readingsPerSecond}; simulated time runs {@code timeScale} times faster than
+ * wall-clock time so diurnal cycles show up in short runs, starting at {@code originMillis}. Simulated
+ * time follows the reading count, not the wall clock, so the same profile yields the same readings.
+ */
+public record LoadProfile(long seed, int stations, int readingsPerSecond, long durationSeconds,
+                          double timeScale, int observersPerStation, int maxInFlight,
+                          long originMillis) {
+
+    public LoadProfile {
+        if (stations <= 0) throw new IllegalArgumentException("stations must be positive");
+        if (readingsPerSecond <= 0) throw new IllegalArgumentException("readingsPerSecond must be positive");
+        if (durationSeconds <= 0) throw new IllegalArgumentException("durationSeconds must be positive");
+        if (!(timeScale > 0)) throw new IllegalArgumentException("timeScale must be positive");
+        if (observersPerStation < 0) throw new IllegalArgumentException("observersPerStation cannot be negative");
+        if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be positive");
+    }
+}
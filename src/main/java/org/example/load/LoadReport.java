@@ -0,0 +1,10 @@
+package org.example.load;
+
+/**
+ * Progress and results of the current or last load run. Latencies are measured from handing a
+ * reading to the station's shard until its update was committed, in microseconds.
+ */
+public record LoadReport(String state, LoadProfile profile, double elapsedSeconds, long submitted, long completed,
+                         long failed, double achievedPerSecond, long p50Micros, long p95Micros, long p99Micros,
+                         long maxMicros) {
+}
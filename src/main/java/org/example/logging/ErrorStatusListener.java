@@ -0,0 +1,24 @@
+package org.example.logging;
+
+import ch.qos.logback.core.status.Status;
+import ch.qos.logback.core.status.StatusListener;
+import ch.qos.logback.core.util.StatusPrinter2;
+
+/**
+ * Logback status listener that reports configuration errors on stderr and stays quiet otherwise.
+ *
+ * Registering any listener stops Logback from dumping its whole status history whenever a
+ * warning occurs; the deprecation warnings Spring Boot's bundled defaults trigger would otherwise
+ * print that dump on every start.
+ */
+public class ErrorStatusListener implements StatusListener {
+    private final StatusPrinter2 printer = new StatusPrinter2();
+
+    @Override
+    public void addStatusEvent(Status status) {
+        if (status.getLevel() < Status.ERROR) return;
+        StringBuilder buffer = new StringBuilder();
+        printer.buildStr(buffer, "", status);
+        System.err.print(buffer);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meters for stations, strategies, observers and delivery channels.
+ *
+ * Every meter is created once and cached, so recording on the update and delivery paths is a
+ * map lookup plus a primitive record call and never allocates. Meters are aggregated across
+ * stations rather than tagged per station, to keep cardinality bounded with thousands of them.
+ */
+@Component
+public class WeatherMetrics {
+    /**
+     * Records nothing; used where stations or dispatchers are built outside the Spring context.
+     */
+    public static final WeatherMetrics NOOP = new WeatherMetrics(new CompositeMeterRegistry());
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Timer> triggerTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, Timer> observerTimers = new ConcurrentHashMap<>();
+    private final Timer fanOutDuration;
+    private final DistributionSummary fanOutSize;
+    private final Counter readings;
+    private final Counter coalesced;
+    private final Counter rateLimited;
+
+    public WeatherMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.fanOutDuration = Timer.builder("weather.fanout.duration")
+                .description("Time from starting an observer fan-out until every observer finished")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.fanOutSize = DistributionSummary.builder("weather.fanout.size")
+                .description("Observers notified per fan-out")
+                .baseUnit("observers")
+                .register(registry);
+        this.readings = Counter.builder("weather.readings")
+                .description("Readings committed across all stations")
+                .register(registry);
+        this.coalesced = Counter.builder("weather.updates.coalesced")
+                .description("Fan-outs skipped because a newer reading superseded them")
+                .register(registry);
+        this.rateLimited = Counter.builder("weather.updates.rate.limited")
+                .description("Update triggers rejected by a station rate limit")
+                .register(registry);
+    }
+
+    public void recordTrigger(String strategyName, long nanos) {
+        Timer timer = triggerTimers.get(strategyName);
+        if (timer == null) {
+            timer = triggerTimers.computeIfAbsent(strategyName, name -> Timer.builder("weather.station.trigger")
+                    .description("Time to produce, commit and hand off a reading in triggerUpdate")
+                    .tag("strategy", name)
+                    .register(registry));
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Update latency timer for one observer type.
+     */
+    public Timer observerTimer(Class<?> observerType) {
+        Timer timer = observerTimers.get(observerType);
+        if (timer == null) {
+            timer = observerTimers.computeIfAbsent(observerType, type -> Timer.builder("weather.observer.update")
+                    .description("Time an observer spends handling an update")
+                    .tag("type", type.getSimpleName())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        return timer;
+    }
+
+    public void recordFanOut(int observers, long nanos) {
+        fanOutSize.record(observers);
+        fanOutDuration.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordReadings(int count) {
+        readings.increment(count);
+    }
+
+    public void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    public void recordRateLimited() {
+        rateLimited.increment();
+    }
+
+    public <T> void gauge(String name, String description, T source, ToDoubleFunction<T> value, String... tags) {
+        Gauge.builder(name, source, value).description(description).tags(tags).register(registry);
+    }
+
+    public <T> void counter(String name, String description, T source, ToDoubleFunction<T> value, String... tags) {
+        FunctionCounter.builder(name, source, value).description(description).tags(tags).register(registry);
+    }
+}
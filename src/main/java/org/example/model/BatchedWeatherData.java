@@ -0,0 +1,116 @@
+package org.example.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary of the samples taken during one window: the inherited values are the per-metric
+ * means and the observation time is that of the last sample. The raw series is kept in
+ * primitive arrays and only expanded into readings on request.
+ */
+public class BatchedWeatherData extends WeatherData {
+    private final Instant windowStart;
+    private final long[] sampleMillis;
+    private final double[][] series;
+    private final double[] min = new double[Metric.values().length];
+    private final double[] max = new double[Metric.values().length];
+
+    /**
+     * Takes ownership of the arrays, which must hold at least one sample; series is indexed
+     * by {@link Metric#ordinal()}.
+     */
+    public BatchedWeatherData(long[] sampleMillis, double[][] series) {
+        super(mean(series[Metric.TEMPERATURE.ordinal()]), mean(series[Metric.HUMIDITY.ordinal()]),
+                mean(series[Metric.WIND.ordinal()]), Instant.ofEpochMilli(sampleMillis[sampleMillis.length - 1]));
+        this.windowStart = Instant.ofEpochMilli(sampleMillis[0]);
+        this.sampleMillis = sampleMillis;
+        this.series = series;
+        for (Metric metric : Metric.values()) {
+            double[] values = series[metric.ordinal()];
+            double lo = values[0];
+            double hi = values[0];
+            for (double value : values) {
+                lo = Math.min(lo, value);
+                hi = Math.max(hi, value);
+            }
+            min[metric.ordinal()] = lo;
+            max[metric.ordinal()] = hi;
+        }
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    public Instant getWindowStart() {
+        return windowStart;
+    }
+
+    public int getSampleCount() {
+        return sampleMillis.length;
+    }
+
+    public double getMin(Metric metric) {
+        return min[metric.ordinal()];
+    }
+
+    public double getMax(Metric metric) {
+        return max[metric.ordinal()];
+    }
+
+    public double getLast(Metric metric) {
+        double[] values = series[metric.ordinal()];
+        return values[values.length - 1];
+    }
+
+    /**
+     * min/mean/max/last per metric, keyed by metric key.
+     */
+    public Map<String, Map<String, Double>> getStatistics() {
+        Map<String, Map<String, Double>> statistics = new LinkedHashMap<>();
+        for (Metric metric : Metric.values()) {
+            Map<String, Double> values = new LinkedHashMap<>();
+            values.put("min", getMin(metric));
+            values.put("mean", metric.valueOf(this));
+            values.put("max", getMax(metric));
+            values.put("last", getLast(metric));
+            statistics.put(metric.getKey(), values);
+        }
+        return statistics;
+    }
+
+    /**
+     * The raw samples of the window, oldest first, packed into a slab.
+     */
+    public ReadingSlab toSlab() {
+        double[] temperature = series[Metric.TEMPERATURE.ordinal()];
+        double[] humidity = series[Metric.HUMIDITY.ordinal()];
+        double[] wind = series[Metric.WIND.ordinal()];
+        ReadingSlab slab = new ReadingSlab(sampleMillis.length);
+        for (int i = 0; i < sampleMillis.length; i++) {
+            slab.add(sampleMillis[i], temperature[i], humidity[i], wind[i]);
+        }
+        return slab;
+    }
+
+    /**
+     * The raw samples of the window, oldest first.
+     */
+    public List<WeatherData> toSamples() {
+        double[] temperature = series[Metric.TEMPERATURE.ordinal()];
+        double[] humidity = series[Metric.HUMIDITY.ordinal()];
+        double[] wind = series[Metric.WIND.ordinal()];
+        List<WeatherData> samples = new ArrayList<>(sampleMillis.length);
+        for (int i = 0; i < sampleMillis.length; i++) {
+            samples.add(new WeatherData(temperature[i], humidity[i], wind[i], Instant.ofEpochMilli(sampleMillis[i])));
+        }
+        return samples;
+    }
+}
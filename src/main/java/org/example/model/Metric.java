@@ -0,0 +1,48 @@
+package org.example.model;
+
+/**
+ * The measured quantities of a {@link WeatherReading}, with the value range used when
+ * a metric has to be bucketed.
+ */
+public enum Metric {
+    TEMPERATURE("temperature", -60.0, 60.0),
+    HUMIDITY("humidity", 0.0, 100.0),
+    WIND("wind", 0.0, 250.0);
+
+    private final String key;
+    private final double lowerBound;
+    private final double upperBound;
+
+    Metric(String key, double lowerBound, double upperBound) {
+        this.key = key;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    public double valueOf(WeatherReading data) {
+        return switch (this) {
+            case TEMPERATURE -> data.getTemperatureCelsius();
+            case HUMIDITY -> data.getHumidityPercent();
+            case WIND -> data.getWindKph();
+        };
+    }
+
+    public static Metric fromKey(String key) {
+        for (Metric metric : values()) {
+            if (metric.key.equalsIgnoreCase(key) || metric.name().equalsIgnoreCase(key)) return metric;
+        }
+        throw new IllegalArgumentException("Unknown metric: " + key + ". Use: temperature, humidity, wind");
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Growable batch of readings packed into primitive arrays: one epoch-millis {@code long} and
+ * three interleaved {@code double}s (indexed by {@link Metric#ordinal()}) per reading, 32 bytes
+ * each with no per-reading objects.
+ *
+ * Rows are read in place through a reusable {@link Cursor}, or copied out as {@link WeatherData}
+ * where an object is needed. A slab is filled by one thread and must not be modified once it
+ * has been handed to a station.
+ */
+public final class ReadingSlab {
+    private static final int METRICS = Metric.values().length;
+
+    private long[] observedAtMillis;
+    private double[] values;
+    private int size;
+    private boolean sorted = true;
+
+    public ReadingSlab(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.observedAtMillis = new long[capacity];
+        this.values = new double[capacity * METRICS];
+    }
+
+    public static ReadingSlab of(List<? extends WeatherReading> readings) {
+        ReadingSlab slab = new ReadingSlab(readings.size());
+        for (WeatherReading reading : readings) {
+            slab.add(reading);
+        }
+        return slab;
+    }
+
+    public void add(WeatherReading reading) {
+        add(reading.getObservedAtMillis(), reading.getTemperatureCelsius(), reading.getHumidityPercent(),
+                reading.getWindKph());
+    }
+
+    public void add(long epochMillis, double temperatureCelsius, double humidityPercent, double windKph) {
+        if (size == observedAtMillis.length) grow();
+        if (size > 0 && epochMillis < observedAtMillis[size - 1]) sorted = false;
+        observedAtMillis[size] = epochMillis;
+        int offset = size * METRICS;
+        values[offset] = temperatureCelsius;
+        values[offset + 1] = humidityPercent;
+        values[offset + 2] = windKph;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+        sorted = true;
+    }
+
+    public long getObservedAtMillis(int index) {
+        return observedAtMillis[check(index)];
+    }
+
+    public double get(int index, Metric metric) {
+        return values[check(index) * METRICS + metric.ordinal()];
+    }
+
+    public double getTemperatureCelsius(int index) {
+        return get(index, Metric.TEMPERATURE);
+    }
+
+    public double getHumidityPercent(int index) {
+        return get(index, Metric.HUMIDITY);
+    }
+
+    public double getWindKph(int index) {
+        return get(index, Metric.WIND);
+    }
+
+    public WeatherData toWeatherData(int index) {
+        return cursor().at(index).toWeatherData();
+    }
+
+    /**
+     * A new cursor positioned before the first row; reuse it with {@link Cursor#at} or
+     * {@link Cursor#next} rather than creating one per row.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Read-only list view that copies each row into a {@link WeatherData} as it is read.
+     */
+    public List<WeatherData> asList() {
+        return new ReadingList();
+    }
+
+    /**
+     * Orders the rows by observation time, oldest first, in place. Stable for rows with equal times.
+     */
+    public void sortByTime() {
+        if (sorted) return;
+        // Insertion sort via binary search; uploads are usually sorted or nearly so.
+        for (int i = 1; i < size; i++) {
+            long millis = observedAtMillis[i];
+            if (millis >= observedAtMillis[i - 1]) continue;
+            int low = 0;
+            int high = i - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (observedAtMillis[mid] <= millis) low = mid + 1;
+                else high = mid - 1;
+            }
+            double t = values[i * METRICS];
+            double h = values[i * METRICS + 1];
+            double w = values[i * METRICS + 2];
+            System.arraycopy(observedAtMillis, low, observedAtMillis, low + 1, i - low);
+            System.arraycopy(values, low * METRICS, values, (low + 1) * METRICS, (i - low) * METRICS);
+            observedAtMillis[low] = millis;
+            values[low * METRICS] = t;
+            values[low * METRICS + 1] = h;
+            values[low * METRICS + 2] = w;
+        }
+        sorted = true;
+    }
+
+    private void grow() {
+        int capacity = observedAtMillis.length * 2;
+        observedAtMillis = Arrays.copyOf(observedAtMillis, capacity);
+        values = Arrays.copyOf(values, capacity * METRICS);
+    }
+
+    private int check(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + size + " readings");
+        }
+        return index;
+    }
+
+    /**
+     * Flyweight view of one row. Its values change whenever it is moved, so callers that keep a
+     * reading beyond the current row must take {@link #toWeatherData()}.
+     */
+    public final class Cursor implements WeatherReading {
+        private int index = -1;
+
+        private Cursor() {
+        }
+
+        public Cursor at(int index) {
+            this.index = check(index);
+            return this;
+        }
+
+        /**
+         * Moves to the next row; returns false once past the last one.
+         */
+        public boolean next() {
+            if (index + 1 >= size) return false;
+            index++;
+            return true;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public double getTemperatureCelsius() {
+            return values[index * METRICS];
+        }
+
+        @Override
+        public double getHumidityPercent() {
+            return values[index * METRICS + 1];
+        }
+
+        @Override
+        public double getWindKph() {
+            return values[index * METRICS + 2];
+        }
+
+        @Override
+        public long getObservedAtMillis() {
+            return observedAtMillis[index];
+        }
+    }
+
+    private final class ReadingList extends AbstractList<WeatherData> implements RandomAccess {
+        @Override
+        public WeatherData get(int index) {
+            return toWeatherData(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
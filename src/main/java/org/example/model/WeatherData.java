@@ -1,8 +1,10 @@
 package org.example.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.Instant;
 
-public class WeatherData {
+public class WeatherData implements WeatherReading {
     private final double temperatureCelsius;
     private final double humidityPercent;
     private final double windKph;
@@ -15,21 +17,36 @@ public class WeatherData {
         this.observedAt = observedAt;
     }
 
+    @Override
     public double getTemperatureCelsius() {
         return temperatureCelsius;
     }
 
+    @Override
     public double getHumidityPercent() {
         return humidityPercent;
     }
 
+    @Override
     public double getWindKph() {
         return windKph;
     }
 
+    @Override
     public Instant getObservedAt() {
         return observedAt;
     }
+
+    @Override
+    @JsonIgnore
+    public long getObservedAtMillis() {
+        return observedAt.toEpochMilli();
+    }
+
+    @Override
+    public WeatherData toWeatherData() {
+        return this;
+    }
 }
 
 
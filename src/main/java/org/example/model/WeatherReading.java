@@ -0,0 +1,28 @@
+package org.example.model;
+
+import java.time.Instant;
+
+/**
+ * Read access to one reading, whether it is a {@link WeatherData} object or a row of a
+ * {@link ReadingSlab} seen through a {@link ReadingSlab.Cursor}.
+ */
+public interface WeatherReading {
+    double getTemperatureCelsius();
+
+    double getHumidityPercent();
+
+    double getWindKph();
+
+    long getObservedAtMillis();
+
+    default Instant getObservedAt() {
+        return Instant.ofEpochMilli(getObservedAtMillis());
+    }
+
+    /**
+     * A detached copy that stays valid after the source moves on.
+     */
+    default WeatherData toWeatherData() {
+        return new WeatherData(getTemperatureCelsius(), getHumidityPercent(), getWindKph(), getObservedAt());
+    }
+}
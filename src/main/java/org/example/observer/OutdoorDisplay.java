@@ -1,13 +1,25 @@
 package org.example.observer;
 
 import org.example.model.WeatherData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
 
 public class OutdoorDisplay implements WeatherObserver {
+    private static final Logger log = LoggerFactory.getLogger(OutdoorDisplay.class);
+
     private final String id;
+    private final boolean batchEvents;
     private WeatherData lastData;
 
     public OutdoorDisplay(String id) {
+        this(id, false);
+    }
+
+    public OutdoorDisplay(String id, boolean batchEvents) {
         this.id = id;
+        this.batchEvents = batchEvents;
     }
 
     @Override
@@ -18,11 +30,29 @@ public class OutdoorDisplay implements WeatherObserver {
     @Override
     public void update(WeatherData data) {
         this.lastData = data;
-        System.out.println("🏢 OutdoorDisplay [" + id + "] received update: " + 
-            String.format("%.1f°C, %.1f%% humidity, %.1f kph wind", 
-                data.getTemperatureCelsius(), 
-                data.getHumidityPercent(), 
-                data.getWindKph()));
+        if (log.isDebugEnabled()) {
+            log.debug("🏢 OutdoorDisplay [{}] received update: {}", id,
+                String.format("%.1f°C, %.1f%% humidity, %.1f kph wind",
+                    data.getTemperatureCelsius(),
+                    data.getHumidityPercent(),
+                    data.getWindKph()));
+        }
+    }
+
+    @Override
+    public boolean receivesBatches() {
+        return batchEvents;
+    }
+
+    @Override
+    public void updateBatch(List<WeatherData> readings) {
+        this.lastData = readings.get(readings.size() - 1);
+        log.debug("🏢 OutdoorDisplay [{}] received batch of {} readings", id, readings.size());
+    }
+
+    @Override
+    public String getChannel() {
+        return "led";
     }
 
     public WeatherData getLastData() {
@@ -2,9 +2,32 @@ package org.example.observer;
 
 import org.example.model.WeatherData;
 
+import java.util.List;
+
 public interface WeatherObserver {
     String getId();
     void update(WeatherData data);
-}
 
+    /**
+     * Whether this observer wants every reading of a bulk ingestion rather than only the latest.
+     */
+    default boolean receivesBatches() {
+        return false;
+    }
 
+    /**
+     * Receives all readings of a bulk ingestion, oldest first. Only called when
+     * {@link #receivesBatches()} is true.
+     */
+    default void updateBatch(List<WeatherData> readings) {
+        update(readings.get(readings.size() - 1));
+    }
+
+    /**
+     * Name of the delivery channel this observer is reached through, or null to be
+     * called directly on the dispatcher's executor.
+     */
+    default String getChannel() {
+        return null;
+    }
+}
@@ -1,13 +1,25 @@
 package org.example.observer;
 
 import org.example.model.WeatherData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
 
 public class WebAppDisplay implements WeatherObserver {
+    private static final Logger log = LoggerFactory.getLogger(WebAppDisplay.class);
+
     private final String id;
+    private final boolean batchEvents;
     private WeatherData lastData;
 
     public WebAppDisplay(String id) {
+        this(id, false);
+    }
+
+    public WebAppDisplay(String id, boolean batchEvents) {
         this.id = id;
+        this.batchEvents = batchEvents;
     }
 
     @Override
@@ -18,11 +30,29 @@ public class WebAppDisplay implements WeatherObserver {
     @Override
     public void update(WeatherData data) {
         this.lastData = data;
-        System.out.println("🌐 WebAppDisplay [" + id + "] received update: " + 
-            String.format("%.1f°C, %.1f%% humidity, %.1f kph wind", 
-                data.getTemperatureCelsius(), 
-                data.getHumidityPercent(), 
-                data.getWindKph()));
+        if (log.isDebugEnabled()) {
+            log.debug("🌐 WebAppDisplay [{}] received update: {}", id,
+                String.format("%.1f°C, %.1f%% humidity, %.1f kph wind",
+                    data.getTemperatureCelsius(),
+                    data.getHumidityPercent(),
+                    data.getWindKph()));
+        }
+    }
+
+    @Override
+    public boolean receivesBatches() {
+        return batchEvents;
+    }
+
+    @Override
+    public void updateBatch(List<WeatherData> readings) {
+        this.lastData = readings.get(readings.size() - 1);
+        log.debug("🌐 WebAppDisplay [{}] received batch of {} readings", id, readings.size());
+    }
+
+    @Override
+    public String getChannel() {
+        return "websocket";
     }
 
     public WeatherData getLastData() {
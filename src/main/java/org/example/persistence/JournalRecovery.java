@@ -0,0 +1,49 @@
+package org.example.persistence;
+
+import jakarta.annotation.PostConstruct;
+import org.example.history.ReadingHistory;
+import org.example.model.WeatherData;
+import org.example.service.WeatherStation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Restores the history and the station's last reading from the journal at startup,
+ * before the web server and the scheduler start producing new readings.
+ */
+@Component
+public class JournalRecovery {
+    private static final Logger log = LoggerFactory.getLogger(JournalRecovery.class);
+
+    private final ReadingJournal journal;
+    private final ReadingHistory history;
+    private final WeatherStation station;
+
+    public JournalRecovery(ReadingJournal journal, ReadingHistory history, WeatherStation station) {
+        this.journal = journal;
+        this.history = history;
+        this.station = station;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        if (!journal.isEnabled()) return;
+        long started = System.nanoTime();
+        long[] lastMillis = new long[1];
+        double[] last = new double[3];
+        long recovered = journal.replay(history.getCapacity(), (seq, epochMillis, temperature, humidity, wind) -> {
+            history.append(epochMillis, temperature, humidity, wind);
+            lastMillis[0] = epochMillis;
+            last[0] = temperature;
+            last[1] = humidity;
+            last[2] = wind;
+        });
+        if (recovered == 0) return;
+        station.restore(new WeatherData(last[0], last[1], last[2], Instant.ofEpochMilli(lastMillis[0])));
+        log.info("💾 Recovered {} readings from journal in {} ms", recovered, (System.nanoTime() - started) / 1_000_000);
+    }
+}
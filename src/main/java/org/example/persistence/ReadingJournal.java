@@ -0,0 +1,249 @@
+package org.example.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.model.ReadingSlab;
+import org.example.model.WeatherData;
+import org.example.service.StationListener;
+import org.example.service.StationSnapshot;
+import org.example.service.WeatherStation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append-only write-ahead log of committed readings.
+ *
+ * Readings are written as fixed-width 40 byte records (sequence, epoch millis, temperature,
+ * humidity, wind) into memory-mapped segment files named after their first sequence number.
+ * A full segment is forced and a new one is mapped. Appends only touch the mapped buffer; a
+ * background flusher forces dirty pages every {@code fsync-interval-ms}, so all appends within
+ * one interval share a single fsync.
+ *
+ * The sequence is written last and must be exactly one more than its predecessor, so recovery
+ * stops at the first torn or unwritten (zero-filled) record.
+ */
+@Component
+public class ReadingJournal implements StationListener {
+    private static final Logger log = LoggerFactory.getLogger(ReadingJournal.class);
+    public static final int RECORD_BYTES = 40;
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentRecords;
+    private final int maxSegments;
+    private final long fsyncIntervalMillis;
+    private final ScheduledExecutorService flusher;
+
+    private MappedByteBuffer segment;
+    private long segmentFirstSequence;
+    private int segmentCount;
+    private long nextSequence = 1;
+    private volatile boolean dirty;
+
+    public ReadingJournal(@Value("${weather.journal.enabled:true}") boolean enabled,
+                          @Value("${weather.journal.directory:data/journal}") String directory,
+                          @Value("${weather.journal.segment-records:262144}") int segmentRecords,
+                          @Value("${weather.journal.max-segments:16}") int maxSegments,
+                          @Value("${weather.journal.fsync-interval-ms:50}") long fsyncIntervalMillis) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentRecords = segmentRecords;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled) return;
+        Files.createDirectories(directory);
+        List<Long> segments = listSegments();
+        if (segments.isEmpty()) {
+            mapSegment(nextSequence);
+        } else {
+            long tailFirst = segments.get(segments.size() - 1);
+            mapSegment(tailFirst);
+            nextSequence = tailFirst + countValid(segment, tailFirst);
+            segmentCount = (int) (nextSequence - tailFirst);
+            if (segmentCount == segmentRecords) roll();
+        }
+        flusher.scheduleWithFixedDelay(this::flush, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onReading(WeatherStation station, StationSnapshot snapshot) {
+        append(snapshot.getData());
+    }
+
+    @Override
+    public void onReadings(WeatherStation station, StationSnapshot snapshot, ReadingSlab readings) {
+        appendAll(readings);
+    }
+
+    public synchronized void appendAll(List<WeatherData> readings) {
+        for (WeatherData data : readings) {
+            append(data);
+        }
+    }
+
+    public synchronized void appendAll(ReadingSlab readings) {
+        for (int i = 0; i < readings.size(); i++) {
+            append(readings.getObservedAtMillis(i), readings.getTemperatureCelsius(i), readings.getHumidityPercent(i),
+                    readings.getWindKph(i));
+        }
+    }
+
+    public void append(WeatherData data) {
+        append(data.getObservedAt().toEpochMilli(), data.getTemperatureCelsius(),
+                data.getHumidityPercent(), data.getWindKph());
+    }
+
+    public synchronized void append(long epochMillis, double temperatureCelsius, double humidityPercent, double windKph) {
+        if (!enabled) return;
+        int offset = segmentCount * RECORD_BYTES;
+        segment.putLong(offset + 8, epochMillis);
+        segment.putDouble(offset + 16, temperatureCelsius);
+        segment.putDouble(offset + 24, humidityPercent);
+        segment.putDouble(offset + 32, windKph);
+        segment.putLong(offset, nextSequence);
+        nextSequence++;
+        segmentCount++;
+        dirty = true;
+        if (segmentCount == segmentRecords) {
+            try {
+                roll();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not roll journal segment", e);
+            }
+        }
+    }
+
+    /**
+     * Visits up to {@code maxRecords} of the newest journaled readings, oldest first,
+     * reading them straight from the mapped segments.
+     */
+    public synchronized long replay(long maxRecords, RecordVisitor visitor) throws IOException {
+        if (!enabled || maxRecords <= 0) return 0;
+        long last = nextSequence - 1;
+        long first = Math.max(1, last - maxRecords + 1);
+        List<Long> segments = listSegments();
+        long visited = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            long segmentFirst = segments.get(i);
+            long segmentLast = i + 1 < segments.size() ? segments.get(i + 1) - 1 : last;
+            if (segmentLast < first) continue;
+            MappedByteBuffer buffer = segmentFirst == segmentFirstSequence ? segment : mapReadOnly(segmentFirst);
+            for (long seq = Math.max(first, segmentFirst); seq <= segmentLast; seq++) {
+                int offset = (int) (seq - segmentFirst) * RECORD_BYTES;
+                if (offset + RECORD_BYTES > buffer.limit() || buffer.getLong(offset) != seq) break;
+                visitor.visit(seq, buffer.getLong(offset + 8), buffer.getDouble(offset + 16),
+                        buffer.getDouble(offset + 24), buffer.getDouble(offset + 32));
+                visited++;
+            }
+        }
+        return visited;
+    }
+
+    public synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        flusher.shutdownNow();
+        if (segment != null) segment.force();
+    }
+
+    private void flush() {
+        if (!dirty) return;
+        dirty = false;
+        MappedByteBuffer current;
+        synchronized (this) {
+            current = segment;
+        }
+        try {
+            current.force();
+        } catch (RuntimeException e) {
+            dirty = true;
+            log.error("❌ Journal flush failed: {}", e.getMessage());
+        }
+    }
+
+    private void roll() throws IOException {
+        segment.force();
+        mapSegment(nextSequence);
+        segmentCount = 0;
+        List<Long> segments = listSegments();
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segmentPath(segments.get(i)));
+        }
+    }
+
+    private void mapSegment(long firstSequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(firstSequence), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_BYTES);
+        }
+        segmentFirstSequence = firstSequence;
+    }
+
+    private MappedByteBuffer mapReadOnly(long firstSequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(firstSequence), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), (long) segmentRecords * RECORD_BYTES));
+        }
+    }
+
+    private int countValid(MappedByteBuffer buffer, long firstSequence) {
+        int count = 0;
+        while (count < segmentRecords && buffer.getLong(count * RECORD_BYTES) == firstSequence + count) {
+            count++;
+        }
+        return count;
+    }
+
+    private List<Long> listSegments() throws IOException {
+        List<Long> result = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.matches("\\d{20}\\" + SEGMENT_SUFFIX))
+                    .forEach(name -> result.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+    }
+
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(long sequence, long epochMillis, double temperatureCelsius, double humidityPercent, double windKph);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.query;
+
+import org.example.history.MetricAggregate;
+
+public enum Aggregate {
+    MIN,
+    MAX,
+    AVG,
+    SUM,
+    COUNT;
+
+    public double of(MetricAggregate aggregate) {
+        return switch (this) {
+            case MIN -> aggregate.getMin();
+            case MAX -> aggregate.getMax();
+            case AVG -> aggregate.getMean();
+            case SUM -> aggregate.getSum();
+            case COUNT -> aggregate.getCount();
+        };
+    }
+
+    public static Aggregate fromKey(String key) {
+        for (Aggregate aggregate : values()) {
+            if (aggregate.name().equalsIgnoreCase(key)) return aggregate;
+        }
+        if ("mean".equalsIgnoreCase(key)) return AVG;
+        throw new IllegalArgumentException("Unknown aggregate: " + key + ". Use: min, max, avg, sum, count");
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.query;
+
+import org.example.model.Metric;
+
+import java.util.List;
+
+/**
+ * One aggregate of a metric per station over a time range, e.g. the max wind per station over
+ * the last 24h, or the stations whose average humidity is above 80.
+ *
+ * Only readings whose value lies strictly between {@code above} and {@code below} are
+ * aggregated; stations whose aggregate does not lie strictly between {@code havingAbove} and
+ * {@code havingBelow} are left out. An empty station list means every station.
+ */
+public record HistoryQuery(Metric metric, Aggregate aggregate, long fromMillis, long toMillis,
+                           double above, double below, double havingAbove, double havingBelow,
+                           List<String> stations, int limit) {
+    public HistoryQuery {
+        if (toMillis < fromMillis) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("'limit' must be positive");
+        }
+        stations = List.copyOf(stations);
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.query;
+
+import jakarta.annotation.PreDestroy;
+import org.example.history.MetricAggregate;
+import org.example.history.ReadingHistory;
+import org.example.service.StationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs {@link HistoryQuery}s over the reading histories of every station in parallel.
+ *
+ * Each history is split into its fixed chunks and all chunks of all selected stations are
+ * scanned by a fork-join pool, halving the chunk list until a task holds a few chunks. Chunks
+ * whose summary rules them out are skipped and those entirely inside the query are answered
+ * from their summaries, so only chunks at the edges of the range are read reading by reading.
+ * The query sees the readings appended up to the moment it starts.
+ */
+@Component
+public class QueryEngine {
+    private static final int CHUNKS_PER_TASK = 2;
+
+    private final StationRegistry registry;
+    private final ForkJoinPool pool;
+
+    public QueryEngine(StationRegistry registry, @Value("${weather.query.parallelism:0}") int parallelism) {
+        this.registry = registry;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public QueryResult run(HistoryQuery query) {
+        long started = System.nanoTime();
+        List<String> stationIds = query.stations().isEmpty() ? registry.getStationIds() : query.stations();
+        List<String> found = new ArrayList<>(stationIds.size());
+        List<ChunkTask> tasks = new ArrayList<>();
+        for (String stationId : stationIds) {
+            ReadingHistory history = registry.history(stationId);
+            if (history == null) continue;
+            int station = found.size();
+            found.add(stationId);
+            long maxSequence = history.getNextSequence();
+            for (int chunk = 0; chunk < history.getChunkCount(); chunk++) {
+                tasks.add(new ChunkTask(station, history, chunk, maxSequence));
+            }
+        }
+        pool.invoke(new ScanAction(query, tasks, 0, tasks.size()));
+
+        MetricAggregate[] perStation = new MetricAggregate[found.size()];
+        int skipped = 0;
+        int summarized = 0;
+        int scanned = 0;
+        long scannedReadings = 0;
+        for (ChunkTask task : tasks) {
+            if (perStation[task.station] == null) perStation[task.station] = new MetricAggregate();
+            perStation[task.station].merge(task.result);
+            scannedReadings += task.result.getScanned();
+            switch (task.outcome) {
+                case SKIPPED -> skipped++;
+                case SUMMARIZED -> summarized++;
+                case SCANNED -> scanned++;
+            }
+        }
+        List<StationAggregate> stations = new ArrayList<>();
+        for (int i = 0; i < perStation.length; i++) {
+            MetricAggregate aggregate = perStation[i];
+            if (aggregate == null || aggregate.getCount() == 0) continue;
+            double value = query.aggregate().of(aggregate);
+            if (value > query.havingAbove() && value < query.havingBelow()) {
+                stations.add(new StationAggregate(found.get(i), value, aggregate.getCount()));
+            }
+        }
+        stations.sort(Comparator.comparingDouble(StationAggregate::value).reversed()
+                .thenComparing(StationAggregate::stationId));
+        if (stations.size() > query.limit()) stations = new ArrayList<>(stations.subList(0, query.limit()));
+        return new QueryResult(query.metric().getKey(), query.aggregate().name().toLowerCase(), stations, tasks.size(),
+                skipped, summarized, scanned, scannedReadings, (System.nanoTime() - started) / 1_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static final class ChunkTask {
+        private final int station;
+        private final ReadingHistory history;
+        private final int chunk;
+        private final long maxSequence;
+        private final MetricAggregate result = new MetricAggregate();
+        private ReadingHistory.ChunkScan outcome;
+
+        private ChunkTask(int station, ReadingHistory history, int chunk, long maxSequence) {
+            this.station = station;
+            this.history = history;
+            this.chunk = chunk;
+            this.maxSequence = maxSequence;
+        }
+    }
+
+    private static final class ScanAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final HistoryQuery query;
+        private final List<ChunkTask> tasks;
+        private final int from;
+        private final int to;
+
+        private ScanAction(HistoryQuery query, List<ChunkTask> tasks, int from, int to) {
+            this.query = query;
+            this.tasks = tasks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNKS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    ChunkTask task = tasks.get(i);
+                    task.outcome = task.history.scanChunk(task.chunk, task.maxSequence, query.metric(),
+                            query.fromMillis(), query.toMillis(), query.above(), query.below(), task.result);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScanAction(query, tasks, from, mid), new ScanAction(query, tasks, mid, to));
+        }
+    }
+}
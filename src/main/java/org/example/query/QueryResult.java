@@ -0,0 +1,12 @@
+package org.example.query;
+
+import java.util.List;
+
+/**
+ * Matching stations ordered by value, highest first, with how the chunks of their histories
+ * were handled: skipped or answered from chunk summaries, or scanned reading by reading.
+ */
+public record QueryResult(String metric, String aggregate, List<StationAggregate> stations, int chunks,
+                          int skippedChunks, int summarizedChunks, int scannedChunks, long scannedReadings,
+                          long elapsedMicros) {
+}
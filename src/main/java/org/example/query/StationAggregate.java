@@ -0,0 +1,4 @@
+package org.example.query;
+
+public record StationAggregate(String stationId, double value, long readings) {
+}
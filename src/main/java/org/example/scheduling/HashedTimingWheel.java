@@ -0,0 +1,130 @@
+package org.example.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel for large numbers of coarse-grained timers.
+ *
+ * Scheduling and cancelling are O(1): new timers go through a lock-free queue and are placed
+ * into a bucket by the wheel thread, and cancelled timers are dropped lazily when their bucket
+ * comes round. Timers fire with a precision of one tick; due tasks run on the given executor so
+ * a slow task never delays the wheel.
+ */
+public class HashedTimingWheel {
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timer> pending = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, Executor executor, String threadName) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("Tick must be positive");
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) * 2 - 1);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.executor = executor;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public Timer schedule(Runnable task, long delayMillis) {
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        Timer timer = new Timer(task, deadline);
+        pending.add(timer);
+        return timer;
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long wakeAt = startNanos + (tick + 1) * tickNanos;
+            for (long now; (now = System.nanoTime()) < wakeAt; ) {
+                LockSupport.parkNanos(this, wakeAt - now);
+                if (!running) return;
+            }
+            placePending(tick);
+            expire(wheel[(int) (tick & mask)].timers);
+            tick++;
+        }
+    }
+
+    private void placePending(long currentTick) {
+        for (Timer timer; (timer = pending.poll()) != null; ) {
+            if (timer.isCancelled()) continue;
+            long due = timer.deadline / tickNanos;
+            timer.remainingRounds = (due - currentTick) / wheel.length;
+            // Timers already overdue go into the bucket that is about to expire.
+            wheel[(int) (Math.max(due, currentTick) & mask)].timers.add(timer);
+        }
+    }
+
+    private void expire(List<Timer> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timer timer = bucket.get(i);
+            if (timer.isCancelled()) continue;
+            if (timer.remainingRounds > 0) {
+                timer.remainingRounds--;
+                bucket.set(kept++, timer);
+            } else if (timer.state.compareAndSet(Timer.WAITING, Timer.EXPIRED)) {
+                executor.execute(timer.task);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    /**
+     * Holds one slot's timers, so the wheel is a typed array rather than an array of generic lists.
+     */
+    private static final class Bucket {
+        private final List<Timer> timers = new ArrayList<>();
+    }
+
+    public static final class Timer {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long remainingRounds;
+
+        private Timer(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Returns false if the timer already fired.
+         */
+        public boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.scheduling;
+
+/**
+ * How often a station polls its strategy: base interval, +/- random jitter, and whether
+ * the interval adapts to reading volatility within [minIntervalMillis, maxIntervalMillis].
+ */
+public record StationSchedule(long intervalMillis, long jitterMillis, boolean adaptive,
+                              long minIntervalMillis, long maxIntervalMillis) {
+
+    public StationSchedule {
+        if (intervalMillis <= 0) throw new IllegalArgumentException("Interval must be positive");
+        if (jitterMillis < 0) throw new IllegalArgumentException("Jitter cannot be negative");
+        if (minIntervalMillis <= 0 || maxIntervalMillis < minIntervalMillis) {
+            throw new IllegalArgumentException("Adaptive bounds must satisfy 0 < min <= max");
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.example.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import org.example.model.Metric;
+import org.example.model.WeatherData;
+import org.example.service.StationListener;
+import org.example.service.StationRegistry;
+import org.example.service.WeatherStation;
+import org.example.strategy.ScheduledBatchStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives periodic updates for every station whose strategy is {@link ScheduledBatchStrategy}.
+ *
+ * Each such station has a timer on a shared {@link HashedTimingWheel}; when it fires, the update
+ * runs on the station's shard thread and the next timer is armed with the station's interval plus
+ * jitter. In adaptive mode the interval halves when consecutive readings move by more than the
+ * volatile threshold (as a fraction of the metric's range) and grows by half when they move by
+ * less than the stable threshold. Schedules are kept per station and can be changed at runtime.
+ */
+@Component
+public class StationScheduler implements StationListener {
+    private static final Logger log = LoggerFactory.getLogger(StationScheduler.class);
+
+    private final StationRegistry registry;
+    private final ScheduledBatchStrategy scheduledStrategy;
+    private final StationSchedule defaultSchedule;
+    private final long initialDelayMillis;
+    private final double volatileThreshold;
+    private final double stableThreshold;
+    private final ExecutorService workers;
+    private final HashedTimingWheel wheel;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public StationScheduler(@Lazy StationRegistry registry, ScheduledBatchStrategy scheduledStrategy,
+                            @Value("${weather.schedule.interval-ms:30000}") long intervalMillis,
+                            @Value("${weather.schedule.jitter-ms:0}") long jitterMillis,
+                            @Value("${weather.schedule.adaptive:false}") boolean adaptive,
+                            @Value("${weather.schedule.min-interval-ms:1000}") long minIntervalMillis,
+                            @Value("${weather.schedule.max-interval-ms:300000}") long maxIntervalMillis,
+                            @Value("${weather.schedule.initial-delay-ms:5000}") long initialDelayMillis,
+                            @Value("${weather.schedule.adaptive.volatile-threshold:0.05}") double volatileThreshold,
+                            @Value("${weather.schedule.adaptive.stable-threshold:0.01}") double stableThreshold,
+                            @Value("${weather.schedule.tick-ms:100}") long tickMillis,
+                            @Value("${weather.schedule.wheel-size:512}") int wheelSize,
+                            @Value("${weather.schedule.workers:4}") int workerCount) {
+        this.registry = registry;
+        this.scheduledStrategy = scheduledStrategy;
+        this.defaultSchedule = new StationSchedule(intervalMillis, jitterMillis, adaptive, minIntervalMillis, maxIntervalMillis);
+        this.initialDelayMillis = initialDelayMillis;
+        this.volatileThreshold = volatileThreshold;
+        this.stableThreshold = stableThreshold;
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerCount), runnable -> {
+            Thread thread = new Thread(runnable, "station-scheduler-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.wheel = new HashedTimingWheel(tickMillis, wheelSize, workers, "station-timing-wheel");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (String id : registry.getStationIds()) {
+            WeatherStation station = registry.get(id);
+            if (station != null) onStrategyChanged(station);
+        }
+    }
+
+    @Override
+    public void onStrategyChanged(WeatherStation station) {
+        Entry entry = entries.computeIfAbsent(station.getId(), id -> new Entry(id, defaultSchedule));
+        synchronized (entry) {
+            boolean scheduled = station.getCurrentStrategy() == scheduledStrategy;
+            if (scheduled && entry.timer == null) {
+                entry.currentInterval = entry.schedule.intervalMillis();
+                arm(entry, initialDelayMillis);
+            } else if (!scheduled) {
+                disarm(entry);
+                scheduledStrategy.release(entry.stationId);
+            }
+        }
+    }
+
+    public StationSchedule getSchedule(String stationId) {
+        Entry entry = entries.get(stationId);
+        return entry == null ? defaultSchedule : entry.schedule;
+    }
+
+    /**
+     * Current effective interval of the station, which differs from the configured one in adaptive mode.
+     */
+    public long getCurrentIntervalMillis(String stationId) {
+        Entry entry = entries.get(stationId);
+        return entry == null ? defaultSchedule.intervalMillis() : entry.currentInterval;
+    }
+
+    public boolean isActive(String stationId) {
+        Entry entry = entries.get(stationId);
+        return entry != null && entry.timer != null;
+    }
+
+    /**
+     * Replaces the station's schedule; a running schedule restarts from now with the new interval.
+     */
+    public void setSchedule(String stationId, StationSchedule schedule) {
+        Entry entry = entries.computeIfAbsent(stationId, id -> new Entry(id, schedule));
+        synchronized (entry) {
+            entry.schedule = schedule;
+            entry.currentInterval = schedule.intervalMillis();
+            if (entry.timer != null) {
+                disarm(entry);
+                arm(entry, nextDelay(entry));
+            }
+        }
+    }
+
+    /**
+     * Forgets a removed station, cancels its pending timer and drops its sample window.
+     */
+    public void remove(String stationId) {
+        scheduledStrategy.release(stationId);
+        Entry entry = entries.remove(stationId);
+        if (entry == null) return;
+        synchronized (entry) {
+            disarm(entry);
+        }
+    }
+
+    private void fire(Entry entry, long generation) {
+        if (entry.generation != generation) return;
+        WeatherStation station = registry.get(entry.stationId);
+        if (station == null) {
+            entries.remove(entry.stationId);
+            return;
+        }
+        if (scheduledStrategy.isSchedulingEnabled()) {
+            try {
+                WeatherData reading = registry.execute(entry.stationId,
+                        s -> s.getCurrentStrategy() == scheduledStrategy ? s.triggerUpdate(null) : null);
+                if (reading != null) {
+                    log.debug("⏰ Scheduled update for station {}", entry.stationId);
+                    adapt(entry, reading);
+                }
+            } catch (Exception e) {
+                log.error("❌ Error in scheduled update for station {}: {}", entry.stationId, e.getMessage());
+            }
+        }
+        synchronized (entry) {
+            // A schedule change or strategy switch while this update ran has already re-armed or stopped the entry.
+            if (entry.generation != generation) return;
+            if (station.getCurrentStrategy() == scheduledStrategy) {
+                arm(entry, nextDelay(entry));
+            } else {
+                entry.timer = null;
+            }
+        }
+    }
+
+    private void adapt(Entry entry, WeatherData reading) {
+        WeatherData previous = entry.lastReading;
+        entry.lastReading = reading;
+        StationSchedule schedule = entry.schedule;
+        if (!schedule.adaptive() || previous == null) return;
+        double movement = 0;
+        for (Metric metric : Metric.values()) {
+            double range = metric.getUpperBound() - metric.getLowerBound();
+            movement = Math.max(movement, Math.abs(metric.valueOf(reading) - metric.valueOf(previous)) / range);
+        }
+        long interval = entry.currentInterval;
+        if (movement > volatileThreshold) {
+            interval = Math.max(schedule.minIntervalMillis(), interval / 2);
+        } else if (movement < stableThreshold) {
+            interval = Math.min(schedule.maxIntervalMillis(), interval + interval / 2);
+        }
+        entry.currentInterval = interval;
+    }
+
+    private long nextDelay(Entry entry) {
+        long jitter = entry.schedule.jitterMillis();
+        long offset = jitter > 0 ? ThreadLocalRandom.current().nextLong(-jitter, jitter + 1) : 0;
+        return Math.max(1, entry.currentInterval + offset);
+    }
+
+    private void arm(Entry entry, long delayMillis) {
+        long generation = ++entry.generation;
+        entry.timer = wheel.schedule(() -> fire(entry, generation), delayMillis);
+    }
+
+    private void disarm(Entry entry) {
+        entry.generation++;
+        if (entry.timer != null) {
+            entry.timer.cancel();
+            entry.timer = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        workers.shutdownNow();
+    }
+
+    private static final class Entry {
+        private final String stationId;
+        private volatile StationSchedule schedule;
+        private volatile long currentInterval;
+        private volatile WeatherData lastReading;
+        private volatile HashedTimingWheel.Timer timer;
+        private volatile long generation;
+
+        private Entry(String stationId, StationSchedule schedule) {
+            this.stationId = stationId;
+            this.schedule = schedule;
+            this.currentInterval = schedule.intervalMillis();
+        }
+    }
+}
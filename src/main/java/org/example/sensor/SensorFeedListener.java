@@ -0,0 +1,122 @@
+package org.example.sensor;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Receives {@link SensorFrame}s over UDP on a non-blocking {@link DatagramChannel} and
+ * publishes them into a {@link SensorRingBuffer}.
+ *
+ * One daemon thread waits on a selector and drains every pending datagram into a single
+ * preallocated direct buffer, so steady-state ingestion does not allocate.
+ */
+@Component
+public class SensorFeedListener {
+    private static final Logger log = LoggerFactory.getLogger(SensorFeedListener.class);
+    private static final int MAX_DATAGRAM = 64 * 1024;
+
+    private final boolean enabled;
+    private final String host;
+    private final int port;
+    private final SensorRingBuffer ring;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_DATAGRAM);
+    private final AtomicLong malformed = new AtomicLong();
+    private volatile InetSocketAddress boundAddress;
+    private volatile boolean running;
+    private DatagramChannel channel;
+    private Selector selector;
+    private Thread worker;
+
+    public SensorFeedListener(@Value("${weather.sensor.enabled:true}") boolean enabled,
+                              @Value("${weather.sensor.host:127.0.0.1}") String host,
+                              @Value("${weather.sensor.port:9876}") int port,
+                              @Value("${weather.sensor.ring-capacity:4096}") int ringCapacity) {
+        this.enabled = enabled;
+        this.host = host;
+        this.port = port;
+        this.ring = new SensorRingBuffer(ringCapacity);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) return;
+        selector = Selector.open();
+        channel = DatagramChannel.open();
+        channel.configureBlocking(false);
+        channel.bind(new InetSocketAddress(host, port));
+        channel.register(selector, SelectionKey.OP_READ);
+        boundAddress = (InetSocketAddress) channel.getLocalAddress();
+        running = true;
+        worker = new Thread(this::run, "sensor-feed");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("📡 Listening for sensor frames on udp://{}:{}", boundAddress.getHostString(), boundAddress.getPort());
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (selector.select() == 0) continue;
+                selector.selectedKeys().clear();
+                buffer.clear();
+                while (channel.receive(buffer) != null) {
+                    buffer.flip();
+                    ingest(buffer);
+                    buffer.clear();
+                }
+            } catch (IOException e) {
+                if (running) log.warn("❌ Sensor feed receive failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void ingest(ByteBuffer datagram) {
+        if (datagram.remaining() % SensorFrame.SIZE != 0) {
+            malformed.incrementAndGet();
+            return;
+        }
+        while (datagram.remaining() >= SensorFrame.SIZE) {
+            if (!SensorFrame.read(datagram, ring)) malformed.incrementAndGet();
+        }
+    }
+
+    public SensorRingBuffer getRing() {
+        return ring;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Address actually bound, which differs from the configured one when port 0 is used; null when disabled.
+     */
+    public InetSocketAddress getBoundAddress() {
+        return boundAddress;
+    }
+
+    public long getMalformedCount() {
+        return malformed.get();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        running = false;
+        if (selector != null) selector.wakeup();
+        if (worker != null) worker.interrupt();
+        if (channel != null) channel.close();
+        if (selector != null) selector.close();
+    }
+}
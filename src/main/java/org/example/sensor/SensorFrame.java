@@ -0,0 +1,43 @@
+package org.example.sensor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Wire format of one sensor sample, 24 bytes big-endian:
+ * magic (short), reserved (short), observed-at epoch millis (long),
+ * temperature °C, humidity %, wind kph (float each). A datagram may carry several frames.
+ */
+public final class SensorFrame {
+    public static final short MAGIC = 0x5753;
+    public static final int SIZE = 24;
+
+    private SensorFrame() {
+    }
+
+    public static void write(ByteBuffer out, long observedAtMillis, double temperature, double humidity, double wind) {
+        out.putShort(MAGIC);
+        out.putShort((short) 0);
+        out.putLong(observedAtMillis);
+        out.putFloat((float) temperature);
+        out.putFloat((float) humidity);
+        out.putFloat((float) wind);
+    }
+
+    /**
+     * Parses the frame at the buffer's position into the ring and advances past it.
+     * Returns false, leaving the ring untouched, if the frame is malformed.
+     */
+    static boolean read(ByteBuffer in, SensorRingBuffer ring) {
+        short magic = in.getShort();
+        in.getShort();
+        long observedAt = in.getLong();
+        float temperature = in.getFloat();
+        float humidity = in.getFloat();
+        float wind = in.getFloat();
+        if (magic != MAGIC || !Float.isFinite(temperature) || !Float.isFinite(humidity) || !Float.isFinite(wind)) {
+            return false;
+        }
+        ring.publish(observedAt, temperature, humidity, wind);
+        return true;
+    }
+}
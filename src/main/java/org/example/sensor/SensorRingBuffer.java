@@ -0,0 +1,81 @@
+package org.example.sensor;
+
+import org.example.model.WeatherData;
+
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Preallocated single-writer ring of sensor samples in primitive arrays.
+ *
+ * The writer fills a slot and then publishes its sequence number; readers take the latest
+ * published slot and re-check the sequence afterwards, retrying if the writer lapped them
+ * while they were reading. Neither side locks. Readers share one {@link WeatherData} per sample:
+ * it is built by the first reader to see the sample and handed to every later one, so polling
+ * an unchanged feed does not allocate.
+ */
+public class SensorRingBuffer {
+    private final int mask;
+    private final long[] millis;
+    private final double[] temperature;
+    private final double[] humidity;
+    private final double[] wind;
+    private final AtomicLong published = new AtomicLong(-1);
+    private volatile Sample cached = new Sample(-1, null);
+
+    public SensorRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.mask = size - 1;
+        this.millis = new long[size];
+        this.temperature = new double[size];
+        this.humidity = new double[size];
+        this.wind = new double[size];
+    }
+
+    /**
+     * Only ever called from the single ingest thread.
+     */
+    void publish(long observedAtMillis, double t, double h, double w) {
+        long sequence = published.get() + 1;
+        int slot = (int) (sequence & mask);
+        millis[slot] = observedAtMillis;
+        temperature[slot] = t;
+        humidity[slot] = h;
+        wind[slot] = w;
+        published.set(sequence);
+    }
+
+    public long getPublishedCount() {
+        return published.get() + 1;
+    }
+
+    /**
+     * The most recent sample, or null if nothing has been received yet.
+     */
+    public WeatherData latest() {
+        while (true) {
+            long sequence = published.get();
+            if (sequence < 0) return null;
+            Sample last = cached;
+            if (last.sequence == sequence) return last.data;
+            int slot = (int) (sequence & mask);
+            long observedAt = millis[slot];
+            double t = temperature[slot];
+            double h = humidity[slot];
+            double w = wind[slot];
+            // Keep the slot reads above from drifting past the re-check below.
+            VarHandle.loadLoadFence();
+            // The slot is only rewritten once the writer has moved a full lap past it.
+            if (published.get() - sequence < mask) {
+                WeatherData data = new WeatherData(t, h, w, Instant.ofEpochMilli(observedAt));
+                // Racing readers build equal copies; whichever is cached last is shared from then on.
+                cached = new Sample(sequence, data);
+                return data;
+            }
+        }
+    }
+
+    private record Sample(long sequence, WeatherData data) {
+    }
+}
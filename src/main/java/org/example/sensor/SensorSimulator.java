@@ -0,0 +1,74 @@
+package org.example.sensor;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loopback sensor that sends {@link SensorFrame}s to the local {@link SensorFeedListener},
+ * standing in for real hardware during development.
+ */
+@Component
+public class SensorSimulator {
+    private final SensorFeedListener listener;
+    private final boolean enabled;
+    private final long periodMicros;
+    private final ByteBuffer frame = ByteBuffer.allocateDirect(SensorFrame.SIZE);
+    private ScheduledExecutorService sender;
+    private DatagramChannel channel;
+    private double temperature = 18;
+    private double humidity = 55;
+    private double wind = 12;
+
+    public SensorSimulator(SensorFeedListener listener,
+                           @Value("${weather.sensor.simulator.enabled:true}") boolean enabled,
+                           @Value("${weather.sensor.simulator.rate-hz:50}") int rateHz) {
+        this.listener = listener;
+        this.enabled = enabled;
+        this.periodMicros = 1_000_000L / Math.max(1, rateHz);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        if (!enabled || listener.getBoundAddress() == null) return;
+        channel = DatagramChannel.open();
+        channel.connect(listener.getBoundAddress());
+        sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sensor-simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sender.scheduleAtFixedRate(this::send, 0, periodMicros, TimeUnit.MICROSECONDS);
+    }
+
+    private void send() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        temperature = Math.max(-10, Math.min(40, temperature + random.nextGaussian() * 0.05));
+        humidity = Math.max(10, Math.min(100, humidity + random.nextGaussian() * 0.2));
+        wind = Math.max(0, Math.min(60, wind + random.nextGaussian() * 0.5));
+        frame.clear();
+        SensorFrame.write(frame, System.currentTimeMillis(), temperature, humidity, wind);
+        frame.flip();
+        try {
+            channel.write(frame);
+        } catch (IOException e) {
+            // Datagrams are best effort; the next tick sends a fresh sample.
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (sender != null) sender.shutdownNow();
+        if (channel != null) channel.close();
+    }
+}
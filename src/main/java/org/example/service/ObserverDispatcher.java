@@ -0,0 +1,258 @@
+package org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.delivery.Delivery;
+import org.example.delivery.DeliveryChannels;
+import org.example.delivery.DeliveryListener;
+import org.example.delivery.DeliveryOutcome;
+import org.example.metrics.WeatherMetrics;
+import org.example.model.WeatherData;
+import org.example.observer.WeatherObserver;
+import org.example.tracing.FlightRecorder;
+import org.example.tracing.SlowObserverDetector;
+import org.example.tracing.UpdateTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans a reading out to observers concurrently on a dedicated executor.
+ *
+ * Every observer runs as its own task with its own timeout, so a slow or failing
+ * observer is logged and cut off without delaying or breaking delivery to the others.
+ * The timeout starts when the observer is actually called, so time spent queued behind
+ * other observers does not count against it. Timeouts are enforced by a single periodic
+ * sweep over the fan-outs in flight rather than a timer per observer; deliveries that
+ * never get to start are given up on after {@code max-queue-wait-ms}.
+ * The executor is either a fixed platform thread pool or, when the runtime supports it,
+ * a virtual-thread-per-task executor. Observers that name a delivery channel are queued
+ * on that channel instead and delivered in batches by its own threads.
+ *
+ * Observers quarantined by the {@link SlowObserverDetector} go to a small, bounded slow lane
+ * instead, and fan-outs do not wait for them. Every delivery that runs is timed into the
+ * {@link FlightRecorder} under the trace of the update it belongs to.
+ */
+@Component
+public class ObserverDispatcher implements DeliveryListener {
+    private static final Logger log = LoggerFactory.getLogger(ObserverDispatcher.class);
+    private static final CompletableFuture<Void> SLOW_LANE = CompletableFuture.completedFuture(null);
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService timeouts;
+    private final long observerTimeoutMillis;
+    private final long observerTimeoutNanos;
+    private final long maxQueueWaitNanos;
+    private final Set<FanOut> inFlight = ConcurrentHashMap.newKeySet();
+    private final DeliveryChannels channels;
+    private final WeatherMetrics metrics;
+    private final FlightRecorder recorder;
+    private final SlowObserverDetector detector;
+    private final ExecutorService slowLane;
+
+    public ObserverDispatcher(DeliveryChannels channels, WeatherMetrics metrics, FlightRecorder recorder,
+                              SlowObserverDetector detector,
+                              @Value("${weather.dispatch.executor:platform}") String executorType,
+                              @Value("${weather.dispatch.pool-size:8}") int poolSize,
+                              @Value("${weather.dispatch.observer-timeout-ms:2000}") long observerTimeoutMillis,
+                              @Value("${weather.dispatch.max-queue-wait-ms:30000}") long maxQueueWaitMillis,
+                              @Value("${weather.dispatch.slow-lane-threads:2}") int slowLaneThreads,
+                              @Value("${weather.dispatch.slow-lane-queue:1024}") int slowLaneQueue) {
+        this.executor = createExecutor(executorType, poolSize);
+        int slowThreads = Math.max(1, slowLaneThreads);
+        this.slowLane = new ThreadPoolExecutor(slowThreads, slowThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, slowLaneQueue)), namedDaemon("observer-slow-lane"));
+        this.timeouts = Executors.newSingleThreadScheduledExecutor(namedDaemon("observer-timeout"));
+        this.observerTimeoutMillis = observerTimeoutMillis;
+        this.observerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(observerTimeoutMillis);
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMillis);
+        long sweepMillis = Math.max(5, observerTimeoutMillis / 4);
+        timeouts.scheduleWithFixedDelay(this::sweep, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+        this.channels = channels;
+        this.metrics = metrics;
+        this.recorder = recorder;
+        this.detector = detector;
+    }
+
+    /**
+     * Schedules delivery of the reading to every observer in the list and returns immediately.
+     * The returned future completes once every observer has finished, failed or timed out;
+     * it never completes exceptionally.
+     */
+    public CompletableFuture<Void> dispatch(List<WeatherObserver> observers, WeatherData data) {
+        return dispatch(observers, data, UpdateTrace.current());
+    }
+
+    public CompletableFuture<Void> dispatch(List<WeatherObserver> observers, WeatherData data, UpdateTrace trace) {
+        List<WeatherData> readings = List.of(data);
+        Delivery[] deliveries = new Delivery[observers.size()];
+        for (int i = 0; i < deliveries.length; i++) {
+            deliveries[i] = submit(observers.get(i), readings, trace);
+        }
+        return track(deliveries);
+    }
+
+    public CompletableFuture<Void> dispatch(WeatherObserver observer, WeatherData data) {
+        return dispatch(observer, data, UpdateTrace.current());
+    }
+
+    public CompletableFuture<Void> dispatch(WeatherObserver observer, WeatherData data, UpdateTrace trace) {
+        return track(new Delivery[]{submit(observer, List.of(data), trace)});
+    }
+
+    /**
+     * Delivers a bulk ingestion: observers that opt into batches receive every reading,
+     * all others receive only the latest one.
+     */
+    public CompletableFuture<Void> dispatchBatch(List<WeatherObserver> observers, List<WeatherData> readings,
+                                                 WeatherData latest, UpdateTrace trace) {
+        List<WeatherData> latestOnly = List.of(latest);
+        Delivery[] deliveries = new Delivery[observers.size()];
+        for (int i = 0; i < deliveries.length; i++) {
+            WeatherObserver observer = observers.get(i);
+            deliveries[i] = submit(observer, observer.receivesBatches() ? readings : latestOnly, trace);
+        }
+        return track(deliveries);
+    }
+
+    private Delivery submit(WeatherObserver observer, List<WeatherData> readings, UpdateTrace trace) {
+        boolean slow = trace != null && detector.isQuarantined(trace.getStationId(), observer.getId());
+        Delivery delivery = new Delivery(observer, readings, new CompletableFuture<>(), trace, slow, this);
+        if (slow) {
+            try {
+                slowLane.execute(delivery::run);
+            } catch (RejectedExecutionException e) {
+                delivery.fail("slow lane is full");
+            }
+            return delivery;
+        }
+        String channel = observer.getChannel();
+        if (channel == null) {
+            executor.execute(delivery::run);
+        } else {
+            channels.get(channel).offer(delivery);
+        }
+        return delivery;
+    }
+
+    /**
+     * Puts the deliveries under timeout supervision until all have completed. The returned
+     * future leaves out slow-lane deliveries: fan-outs never wait for the slow lane.
+     */
+    private CompletableFuture<Void> track(Delivery[] deliveries) {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[deliveries.length];
+        boolean anySlow = false;
+        for (int i = 0; i < deliveries.length; i++) {
+            results[i] = deliveries[i].getResult();
+            anySlow |= deliveries[i].isSlowLane();
+        }
+        CompletableFuture<Void> all = CompletableFuture.allOf(results);
+        if (!all.isDone()) {
+            FanOut fanOut = new FanOut(deliveries);
+            inFlight.add(fanOut);
+            all.whenComplete((ignored, error) -> inFlight.remove(fanOut));
+        }
+        if (!anySlow) return all;
+        CompletableFuture<?>[] awaited = new CompletableFuture<?>[deliveries.length];
+        for (int i = 0; i < deliveries.length; i++) {
+            awaited[i] = deliveries[i].isSlowLane() ? SLOW_LANE : results[i];
+        }
+        return CompletableFuture.allOf(awaited);
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        for (FanOut fanOut : inFlight) {
+            try {
+                fanOut.sweep(now);
+            } catch (RuntimeException e) {
+                log.warn("Observer timeout sweep failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private final class FanOut {
+        private final Delivery[] deliveries;
+        private int firstPending;
+
+        private FanOut(Delivery[] deliveries) {
+            this.deliveries = deliveries;
+        }
+
+        /**
+         * Only ever called from the sweeper thread.
+         */
+        private void sweep(long now) {
+            while (firstPending < deliveries.length && deliveries[firstPending].getResult().isDone()) {
+                firstPending++;
+            }
+            for (int i = firstPending; i < deliveries.length; i++) {
+                Delivery delivery = deliveries[i];
+                if (delivery.getResult().isDone()) continue;
+                if (delivery.isStarted()) {
+                    if (now - delivery.getStartedNanos() >= observerTimeoutNanos && delivery.timeOut()) {
+                        log.warn("❌ Observer [{}] timed out after {} ms (trace {})", delivery.getObserver().getId(),
+                                observerTimeoutMillis, delivery.getTrace());
+                    }
+                } else if (now - delivery.getCreatedNanos() >= maxQueueWaitNanos && delivery.timeOut()) {
+                    log.warn("❌ Observer [{}] was not started within {} ms (trace {})", delivery.getObserver().getId(),
+                            TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos), delivery.getTrace());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onCompleted(Delivery delivery, long durationNanos, DeliveryOutcome outcome) {
+        WeatherObserver observer = delivery.getObserver();
+        metrics.observerTimer(observer.getClass()).record(durationNanos, TimeUnit.NANOSECONDS);
+        recorder.record(delivery.getTrace(), delivery.getSpanId(), observer, durationNanos, outcome,
+                delivery.isSlowLane());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        slowLane.shutdownNow();
+        timeouts.shutdownNow();
+    }
+
+    private static ExecutorService createExecutor(String executorType, int poolSize) {
+        if ("virtual".equalsIgnoreCase(executorType)) {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads are not available on this runtime, using a platform pool");
+            }
+        }
+        return Executors.newFixedThreadPool(Math.max(1, poolSize), namedDaemon("observer-dispatch"));
+    }
+
+    /**
+     * Daemon threads named {@code <prefix>-1}, {@code <prefix>-2}, ...
+     */
+    public static ThreadFactory namedDaemon(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
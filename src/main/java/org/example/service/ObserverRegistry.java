@@ -0,0 +1,139 @@
+package org.example.service;
+
+import org.example.observer.WeatherObserver;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free, insertion-ordered set of observers keyed by ID.
+ *
+ * IDs are resolved through a {@link ConcurrentHashMap} and ordering is kept in a
+ * {@link ConcurrentSkipListMap} keyed by a subscription sequence number, so subscribe
+ * and unsubscribe are O(log n) and never block readers. Iteration is weakly consistent
+ * and never throws {@link java.util.ConcurrentModificationException}.
+ */
+public class ObserverRegistry {
+    private final ConcurrentHashMap<String, Entry> byId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Entry> inOrder = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong modifications = new AtomicLong();
+    private final Collection<WeatherObserver> view = new ObserverView();
+
+    public boolean add(WeatherObserver observer) {
+        Entry entry = new Entry(sequence.incrementAndGet(), observer);
+        if (byId.putIfAbsent(observer.getId(), entry) != null) return false;
+        inOrder.put(entry.sequence, entry);
+        // An unsubscribe may have raced in between the two puts; undo the ordered insert if so.
+        if (entry.removed) inOrder.remove(entry.sequence, entry);
+        modifications.incrementAndGet();
+        return true;
+    }
+
+    public boolean remove(String id) {
+        Entry entry = byId.remove(id);
+        if (entry == null) return false;
+        entry.removed = true;
+        inOrder.remove(entry.sequence, entry);
+        modifications.incrementAndGet();
+        return true;
+    }
+
+    public WeatherObserver get(String id) {
+        Entry entry = byId.get(id);
+        return entry == null ? null : entry.observer;
+    }
+
+    public boolean contains(String id) {
+        return byId.containsKey(id);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Number of successful adds and removes so far; changes whenever the observer set changes.
+     */
+    public long getModificationCount() {
+        return modifications.get();
+    }
+
+    /**
+     * Live, read-only, insertion-ordered view of the registered observers.
+     */
+    public Collection<WeatherObserver> values() {
+        return view;
+    }
+
+    /**
+     * Point-in-time copy of the registered observers, stable regardless of concurrent
+     * (un)subscribes.
+     */
+    public List<WeatherObserver> snapshot() {
+        List<WeatherObserver> copy = new ArrayList<>(byId.size());
+        for (Entry entry : inOrder.values()) {
+            if (!entry.removed) copy.add(entry.observer);
+        }
+        return copy;
+    }
+
+    private static final class Entry {
+        private final long sequence;
+        private final WeatherObserver observer;
+        private volatile boolean removed;
+
+        private Entry(long sequence, WeatherObserver observer) {
+            this.sequence = sequence;
+            this.observer = observer;
+        }
+    }
+
+    private final class ObserverView extends AbstractCollection<WeatherObserver> {
+        @Override
+        public Iterator<WeatherObserver> iterator() {
+            Iterator<Entry> entries = inOrder.values().iterator();
+            return new Iterator<>() {
+                private Entry next = advance();
+
+                private Entry advance() {
+                    while (entries.hasNext()) {
+                        Entry candidate = entries.next();
+                        if (!candidate.removed) return candidate;
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public WeatherObserver next() {
+                    if (next == null) throw new NoSuchElementException();
+                    WeatherObserver observer = next.observer;
+                    next = advance();
+                    return observer;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return byId.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return byId.isEmpty();
+        }
+    }
+}
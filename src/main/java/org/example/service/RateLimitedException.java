@@ -0,0 +1,12 @@
+package org.example.service;
+
+/**
+ * Thrown when a station rejects an update trigger because its rate limit is exhausted.
+ */
+public class RateLimitedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public RateLimitedException(String stationId) {
+        super("Update rate limit exceeded for station '" + stationId + "'");
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.service;
+
+import org.example.model.ReadingSlab;
+import org.example.model.WeatherData;
+
+import java.util.List;
+
+/**
+ * Callback for components that react to committed station state, such as streaming
+ * endpoints. Listeners run on the committing thread and must not block.
+ */
+public interface StationListener {
+    default void onReading(WeatherStation station, StationSnapshot snapshot) {
+    }
+
+    /**
+     * Called once for a bulk ingestion or a summarized sampling window. The snapshot holds the
+     * committed reading (the latest of the batch, or the window summary); by default only that
+     * reading is reported through {@link #onReading}.
+     */
+    default void onBatch(WeatherStation station, StationSnapshot snapshot, List<WeatherData> readings) {
+        onReading(station, snapshot);
+    }
+
+    /**
+     * How the station reports a batch. Listeners that process every reading override this to
+     * read the slab in place; by default the batch is passed to {@link #onBatch} as a list view.
+     * The slab must not be retained or modified.
+     */
+    default void onReadings(WeatherStation station, StationSnapshot snapshot, ReadingSlab readings) {
+        onBatch(station, snapshot, readings.asList());
+    }
+
+    default void onObserversChanged(WeatherStation station) {
+    }
+
+    default void onStrategyChanged(WeatherStation station) {
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.history.ReadingHistory;
+import org.example.metrics.WeatherMetrics;
+import org.example.scheduling.StationScheduler;
+import org.example.strategy.UpdateStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Holds many independent weather stations keyed by station ID.
+ *
+ * Stations are partitioned across a fixed number of shards by ID hash. Each shard owns its
+ * stations and a single writer thread, and every state-changing call for a station runs on
+ * that thread, so updates to stations on different shards proceed in parallel with no shared
+ * lock. Reads go straight to the station's lock-free snapshot.
+ *
+ * The application's {@link WeatherStation} bean is registered as {@value WeatherStation#DEFAULT_ID}
+ * and keeps its Spring-managed listeners; every other station gets its own reading history.
+ */
+@Service
+public class StationRegistry {
+    private static final Set<String> RESERVED_IDS = Set.of(
+            "stations", "current", "strategy", "update", "observers", "history", "aggregates", "stream", "version",
+            "channels", "stats", "schedule", "load", "query");
+
+    private final Shard[] shards;
+    private final ObserverDispatcher dispatcher;
+    private final UpdateStrategy initialStrategy;
+    private final int historyCapacity;
+    private final UpdatePolicy updatePolicy;
+    private final StationScheduler scheduler;
+    private final WeatherMetrics metrics;
+
+    public StationRegistry(WeatherStation defaultStation, ReadingHistory defaultHistory, ObserverDispatcher dispatcher,
+                           Collection<UpdateStrategy> strategies, UpdatePolicy updatePolicy, StationScheduler scheduler,
+                           WeatherMetrics metrics,
+                           @Value("${weather.stations.shards:0}") int shardCount,
+                           @Value("${weather.stations.history-capacity:4096}") int historyCapacity) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i);
+        }
+        this.dispatcher = dispatcher;
+        this.initialStrategy = strategies.stream().findFirst().orElse(null);
+        this.historyCapacity = historyCapacity;
+        this.updatePolicy = updatePolicy;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        shardFor(defaultStation.getId()).stations.put(defaultStation.getId(),
+                new RegisteredStation(defaultStation, defaultHistory));
+        metrics.gauge("weather.stations", "Registered stations", this, StationRegistry::size);
+        metrics.gauge("weather.observers", "Observers subscribed across all stations", this,
+                StationRegistry::getObserverCount);
+    }
+
+    public WeatherStation get(String stationId) {
+        RegisteredStation registered = shardFor(stationId).stations.get(stationId);
+        return registered == null ? null : registered.station;
+    }
+
+    public ReadingHistory history(String stationId) {
+        RegisteredStation registered = shardFor(stationId).stations.get(stationId);
+        return registered == null ? null : registered.history;
+    }
+
+    /**
+     * Creates a station with the default strategy. Returns false if the ID is already taken.
+     */
+    public boolean create(String stationId) {
+        if (stationId == null || stationId.isBlank()) {
+            throw new IllegalArgumentException("Station ID cannot be empty");
+        }
+        if (RESERVED_IDS.contains(stationId.toLowerCase())) {
+            throw new IllegalArgumentException("Station ID '" + stationId + "' is reserved");
+        }
+        Shard shard = shardFor(stationId);
+        if (shard.stations.containsKey(stationId)) return false;
+        ReadingHistory history = new ReadingHistory(historyCapacity, Duration.ZERO);
+        WeatherStation station = new WeatherStation(stationId, initialStrategy, dispatcher, List.of(history, scheduler),
+                updatePolicy, metrics);
+        if (shard.stations.putIfAbsent(stationId, new RegisteredStation(station, history)) != null) return false;
+        scheduler.onStrategyChanged(station);
+        return true;
+    }
+
+    public boolean remove(String stationId) {
+        if (WeatherStation.DEFAULT_ID.equals(stationId)) {
+            throw new IllegalArgumentException("The default station cannot be removed");
+        }
+        if (shardFor(stationId).stations.remove(stationId) == null) return false;
+        scheduler.remove(stationId);
+        return true;
+    }
+
+    /**
+     * Runs a state-changing action on the station's shard writer thread and waits for its result.
+     * Exceptions thrown by the action are rethrown unwrapped.
+     *
+     * @throws UnknownStationException if the station is not registered
+     */
+    public <T> T execute(String stationId, Function<WeatherStation, T> action) {
+        try {
+            return submit(stationId, action).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Queues a state-changing action on the station's shard writer thread without waiting.
+     *
+     * @throws UnknownStationException if the station is not registered
+     */
+    public <T> CompletableFuture<T> submit(String stationId, Function<WeatherStation, T> action) {
+        Shard shard = shardFor(stationId);
+        RegisteredStation registered = shard.stations.get(stationId);
+        if (registered == null) {
+            throw new UnknownStationException(stationId);
+        }
+        return CompletableFuture.supplyAsync(() -> action.apply(registered.station), shard.writer);
+    }
+
+    public List<String> getStationIds() {
+        List<String> ids = new ArrayList<>();
+        for (Shard shard : shards) {
+            ids.addAll(shard.stations.keySet());
+        }
+        return ids;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.stations.size();
+        }
+        return size;
+    }
+
+    public int getObserverCount() {
+        int count = 0;
+        for (Shard shard : shards) {
+            for (RegisteredStation registered : shard.stations.values()) {
+                count += registered.station.getObservers().size();
+            }
+        }
+        return count;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public int shardOf(String stationId) {
+        return Math.floorMod(stationId.hashCode(), shards.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.writer.shutdownNow();
+        }
+    }
+
+    private Shard shardFor(String stationId) {
+        return shards[shardOf(stationId)];
+    }
+
+    private static final class Shard {
+        private final ConcurrentHashMap<String, RegisteredStation> stations = new ConcurrentHashMap<>();
+        private final ExecutorService writer;
+
+        private Shard(int index) {
+            this.writer = Executors.newSingleThreadExecutor(ObserverDispatcher.namedDaemon("station-shard-" + index));
+        }
+    }
+
+    private record RegisteredStation(WeatherStation station, ReadingHistory history) {
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.service;
+
+import org.example.model.WeatherData;
+import org.example.strategy.UpdateStrategy;
+
+/**
+ * Immutable view of a station's mutable state. Every change (a committed reading, a strategy
+ * switch or a change to the observer set) produces a new snapshot with the next version number,
+ * and the station swaps it in atomically.
+ */
+public final class StationSnapshot {
+    private final long version;
+    private final long changedAtMillis;
+    private final UpdateStrategy strategy;
+    private final WeatherData data;
+
+    public StationSnapshot(long version, long changedAtMillis, UpdateStrategy strategy, WeatherData data) {
+        this.version = version;
+        this.changedAtMillis = changedAtMillis;
+        this.strategy = strategy;
+        this.data = data;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getChangedAtMillis() {
+        return changedAtMillis;
+    }
+
+    public UpdateStrategy getStrategy() {
+        return strategy;
+    }
+
+    public WeatherData getData() {
+        return data;
+    }
+
+    public StationSnapshot withStrategy(UpdateStrategy strategy) {
+        return new StationSnapshot(version + 1, System.currentTimeMillis(), strategy, data);
+    }
+
+    public StationSnapshot withData(WeatherData data) {
+        return new StationSnapshot(version + 1, System.currentTimeMillis(), strategy, data);
+    }
+
+    /**
+     * Next version with the same reading and strategy, used when only the observer set changed.
+     */
+    public StationSnapshot touch() {
+        return new StationSnapshot(version + 1, System.currentTimeMillis(), strategy, data);
+    }
+}
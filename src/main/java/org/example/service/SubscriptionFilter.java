@@ -0,0 +1,74 @@
+package org.example.service;
+
+import org.example.model.Metric;
+
+import java.time.Duration;
+
+/**
+ * Decides which readings an observer is notified about.
+ *
+ * A filter holds at most one value predicate on one metric, either a threshold crossing
+ * ("temperature crossed 30") or a minimum change between consecutive readings ("wind changed
+ * by more than 5"), plus an optional minimum interval between notifications. Without a value
+ * predicate every reading matches, subject to the interval.
+ */
+public final class SubscriptionFilter {
+    public static final SubscriptionFilter NONE = new SubscriptionFilter(null, Double.NaN, Double.NaN, Duration.ZERO);
+
+    private final Metric metric;
+    private final double crossing;
+    private final double minChange;
+    private final long minIntervalMillis;
+
+    private SubscriptionFilter(Metric metric, double crossing, double minChange, Duration minInterval) {
+        this.metric = metric;
+        this.crossing = crossing;
+        this.minChange = minChange;
+        this.minIntervalMillis = minInterval.toMillis();
+    }
+
+    public static SubscriptionFilter crossing(Metric metric, double threshold, Duration minInterval) {
+        if (!Double.isFinite(threshold)) throw new IllegalArgumentException("Threshold must be a finite number");
+        return new SubscriptionFilter(metric, threshold, Double.NaN, checked(minInterval));
+    }
+
+    public static SubscriptionFilter minChange(Metric metric, double minChange, Duration minInterval) {
+        if (!(minChange >= 0) || Double.isInfinite(minChange)) {
+            throw new IllegalArgumentException("Minimum change must be a non-negative number");
+        }
+        return new SubscriptionFilter(metric, Double.NaN, minChange, checked(minInterval));
+    }
+
+    public static SubscriptionFilter minInterval(Duration minInterval) {
+        return new SubscriptionFilter(null, Double.NaN, Double.NaN, checked(minInterval));
+    }
+
+    private static Duration checked(Duration minInterval) {
+        if (minInterval.isNegative()) throw new IllegalArgumentException("Minimum interval cannot be negative");
+        return minInterval;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public boolean hasCrossing() {
+        return !Double.isNaN(crossing);
+    }
+
+    public double getCrossing() {
+        return crossing;
+    }
+
+    public boolean hasMinChange() {
+        return !Double.isNaN(minChange);
+    }
+
+    public double getMinChange() {
+        return minChange;
+    }
+
+    public long getMinIntervalMillis() {
+        return minIntervalMillis;
+    }
+}
@@ -0,0 +1,255 @@
+package org.example.service;
+
+import org.example.model.Metric;
+import org.example.model.WeatherData;
+import org.example.observer.WeatherObserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finds the observers whose {@link SubscriptionFilter} matches a new reading without
+ * evaluating every subscription.
+ *
+ * Per metric, crossing subscriptions sit in an array sorted by threshold: a move from
+ * {@code p} to {@code v} crosses exactly the thresholds in {@code (min(p, v), max(p, v)]},
+ * found by binary search. Minimum-change subscriptions sit in an array sorted by the change,
+ * so the matches for a change {@code d} are the prefix with {@code minChange < d}. Matching
+ * therefore costs O(log n) plus the number of matches. Unfiltered observers are kept apart
+ * in a skip list keyed by subscription sequence and always match, so adding or removing one
+ * is O(log n).
+ *
+ * Matches come back in subscription order: filtered matches are sorted by sequence and merged
+ * into the unfiltered ones, which the skip list already yields in order.
+ *
+ * The filtered part is copy-on-write: readers use an immutable snapshot, and (un)subscribes of
+ * filtered observers, which are rare compared to readings, copy only the one sorted array the
+ * filter lives in, inserting or removing by binary search. Subscribes and unsubscribes hold the
+ * index's lock throughout, so the observer map and the columns always agree; re-subscribing an
+ * observer replaces its previous filter.
+ */
+public class SubscriptionIndex {
+    private static final Metric[] METRICS = Metric.values();
+    private static final Comparator<Entry> BY_SEQUENCE = Comparator.comparingLong(e -> e.sequence);
+
+    private final AtomicLong sequences = new AtomicLong();
+    private final Map<WeatherObserver, Entry> entries = new HashMap<>();
+    private final ConcurrentSkipListMap<Long, Entry> unconditional = new ConcurrentSkipListMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public synchronized void add(WeatherObserver observer, SubscriptionFilter filter) {
+        Entry entry = new Entry(sequences.incrementAndGet(), observer, filter);
+        Entry replaced = entries.put(observer, entry);
+        if (replaced != null) unlink(replaced);
+        link(entry);
+    }
+
+    public synchronized void remove(WeatherObserver observer) {
+        Entry entry = entries.remove(observer);
+        if (entry != null) unlink(entry);
+    }
+
+    private void link(Entry entry) {
+        if (!entry.isFiltered()) {
+            unconditional.put(entry.sequence, entry);
+            return;
+        }
+        Metric metric = entry.filter.getMetric();
+        boolean crossing = entry.filter.hasCrossing();
+        snapshot = snapshot.with(metric, crossing, snapshot.column(metric, crossing).insert(entry));
+    }
+
+    private void unlink(Entry entry) {
+        if (!entry.isFiltered()) {
+            unconditional.remove(entry.sequence);
+            return;
+        }
+        Metric metric = entry.filter.getMetric();
+        boolean crossing = entry.filter.hasCrossing();
+        Column column = snapshot.column(metric, crossing);
+        Column updated = column.remove(entry);
+        if (updated != column) snapshot = snapshot.with(metric, crossing, updated);
+    }
+
+    /**
+     * Observers to notify about {@code current}, given the reading it replaces (null if none),
+     * in subscription order. Consumes the minimum interval of every observer returned.
+     */
+    public List<WeatherObserver> match(WeatherData previous, WeatherData current, long nowMillis) {
+        Snapshot s = snapshot;
+        List<Entry> filtered = new ArrayList<>();
+        for (int m = 0; m < METRICS.length; m++) {
+            Metric metric = METRICS[m];
+            Column changes = s.changes[m];
+            double now = metric.valueOf(current);
+            if (previous == null) {
+                // Nothing to compare against: no crossings, but every change subscription sees a change.
+                for (Entry entry : changes.entries) entry.collect(filtered, nowMillis);
+                continue;
+            }
+            double before = metric.valueOf(previous);
+            double low = Math.min(before, now);
+            double high = Math.max(before, now);
+            Column crossings = s.crossings[m];
+            double[] thresholds = crossings.keys;
+            for (int i = firstAbove(thresholds, low); i < thresholds.length && thresholds[i] <= high; i++) {
+                crossings.entries[i].collect(filtered, nowMillis);
+            }
+            double change = high - low;
+            double[] minChanges = changes.keys;
+            for (int i = 0; i < minChanges.length && minChanges[i] < change; i++) {
+                changes.entries[i].collect(filtered, nowMillis);
+            }
+        }
+        filtered.sort(BY_SEQUENCE);
+
+        List<WeatherObserver> matches = new ArrayList<>(unconditional.size() + filtered.size());
+        Iterator<Entry> pending = filtered.iterator();
+        Entry next = pending.hasNext() ? pending.next() : null;
+        for (Entry entry : unconditional.values()) {
+            while (next != null && next.sequence < entry.sequence) {
+                matches.add(next.observer);
+                next = pending.hasNext() ? pending.next() : null;
+            }
+            if (entry.accepts(nowMillis)) matches.add(entry.observer);
+        }
+        while (next != null) {
+            matches.add(next.observer);
+            next = pending.hasNext() ? pending.next() : null;
+        }
+        return matches;
+    }
+
+    private static int firstAbove(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    private static final class Entry {
+        private final long sequence;
+        private final WeatherObserver observer;
+        private final SubscriptionFilter filter;
+        private final AtomicLong lastNotifiedMillis = new AtomicLong(Long.MIN_VALUE);
+
+        private Entry(long sequence, WeatherObserver observer, SubscriptionFilter filter) {
+            this.sequence = sequence;
+            this.observer = observer;
+            this.filter = filter;
+        }
+
+        private boolean isFiltered() {
+            return filter.getMetric() != null && (filter.hasCrossing() || filter.hasMinChange());
+        }
+
+        private double key() {
+            return filter.hasCrossing() ? filter.getCrossing() : filter.getMinChange();
+        }
+
+        private void collect(List<Entry> matches, long nowMillis) {
+            if (accepts(nowMillis)) matches.add(this);
+        }
+
+        private boolean accepts(long nowMillis) {
+            long interval = filter.getMinIntervalMillis();
+            if (interval > 0) {
+                long last = lastNotifiedMillis.get();
+                if (last != Long.MIN_VALUE && nowMillis - last < interval) return false;
+                return lastNotifiedMillis.compareAndSet(last, nowMillis);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Immutable entries of one metric and predicate kind, sorted by key; equal keys keep
+     * subscription order.
+     */
+    private static final class Column {
+        private static final Column EMPTY = new Column(new double[0], new Entry[0]);
+
+        private final double[] keys;
+        private final Entry[] entries;
+
+        private Column(double[] keys, Entry[] entries) {
+            this.keys = keys;
+            this.entries = entries;
+        }
+
+        private Column insert(Entry entry) {
+            double key = entry.key();
+            int at = firstAbove(keys, key);
+            double[] newKeys = new double[keys.length + 1];
+            Entry[] newEntries = new Entry[entries.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(entries, 0, newEntries, 0, at);
+            newKeys[at] = key;
+            newEntries[at] = entry;
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(entries, at, newEntries, at + 1, entries.length - at);
+            return new Column(newKeys, newEntries);
+        }
+
+        private Column remove(Entry entry) {
+            double key = entry.key();
+            int at = Arrays.binarySearch(keys, key);
+            if (at < 0) return this;
+            while (at > 0 && keys[at - 1] == key) at--;
+            while (at < entries.length && keys[at] == key && entries[at] != entry) at++;
+            if (at == entries.length || entries[at] != entry) return this;
+            double[] newKeys = new double[keys.length - 1];
+            Entry[] newEntries = new Entry[entries.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(entries, 0, newEntries, 0, at);
+            System.arraycopy(keys, at + 1, newKeys, at, keys.length - at - 1);
+            System.arraycopy(entries, at + 1, newEntries, at, entries.length - at - 1);
+            return new Column(newKeys, newEntries);
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(filled(), filled());
+
+        private final Column[] crossings;
+        private final Column[] changes;
+
+        private Snapshot(Column[] crossings, Column[] changes) {
+            this.crossings = crossings;
+            this.changes = changes;
+        }
+
+        private Column column(Metric metric, boolean crossing) {
+            return (crossing ? crossings : changes)[metric.ordinal()];
+        }
+
+        private Snapshot with(Metric metric, boolean crossing, Column column) {
+            Column[] newCrossings = crossings;
+            Column[] newChanges = changes;
+            if (crossing) {
+                newCrossings = crossings.clone();
+                newCrossings[metric.ordinal()] = column;
+            } else {
+                newChanges = changes.clone();
+                newChanges[metric.ordinal()] = column;
+            }
+            return new Snapshot(newCrossings, newChanges);
+        }
+
+        private static Column[] filled() {
+            Column[] columns = new Column[METRICS.length];
+            Arrays.fill(columns, Column.EMPTY);
+            return columns;
+        }
+    }
+}
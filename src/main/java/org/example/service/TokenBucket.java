@@ -0,0 +1,28 @@
+package org.example.service;
+
+/**
+ * Token bucket refilled continuously at a fixed rate up to a burst capacity.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double tokensPerSecond, int burst) {
+        if (!(tokensPerSecond > 0)) throw new IllegalArgumentException("Rate must be positive");
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+}
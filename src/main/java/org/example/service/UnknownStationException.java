@@ -0,0 +1,13 @@
+package org.example.service;
+
+/**
+ * Thrown when an action targets a station that is not registered, for example one removed
+ * between looking it up and running the action.
+ */
+public class UnknownStationException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    public UnknownStationException(String stationId) {
+        super("Unknown station: " + stationId);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * How stations absorb bursts of update triggers: whether observer fan-outs are coalesced,
+ * and the per-station token-bucket limit on triggers (rate 0 means unlimited).
+ */
+@Component
+public class UpdatePolicy {
+    public static final UpdatePolicy UNLIMITED = new UpdatePolicy(false, 0, 1);
+
+    private final boolean coalesce;
+    private final double triggersPerSecond;
+    private final int burst;
+
+    public UpdatePolicy(@Value("${weather.updates.coalesce:true}") boolean coalesce,
+                        @Value("${weather.updates.rate-limit-per-second:0}") double triggersPerSecond,
+                        @Value("${weather.updates.burst:10}") int burst) {
+        this.coalesce = coalesce;
+        this.triggersPerSecond = triggersPerSecond;
+        this.burst = burst;
+    }
+
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    /**
+     * A fresh bucket for one station, or null when triggers are not limited.
+     */
+    public TokenBucket newBucket() {
+        return triggersPerSecond > 0 ? new TokenBucket(triggersPerSecond, burst) : null;
+    }
+}
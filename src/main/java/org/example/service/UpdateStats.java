@@ -0,0 +1,8 @@
+package org.example.service;
+
+/**
+ * Per-station counters: observer fan-outs started, readings whose fan-out was superseded
+ * by a newer reading (coalesced), and triggers rejected by the rate limit.
+ */
+public record UpdateStats(long fanOuts, long coalesced, long rateLimited) {
+}
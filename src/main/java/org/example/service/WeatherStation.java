@@ -1,84 +1,342 @@
 package org.example.service;
 
+import org.example.metrics.WeatherMetrics;
+import org.example.model.BatchedWeatherData;
+import org.example.model.ReadingSlab;
 import org.example.model.WeatherData;
 import org.example.observer.OutdoorDisplay;
 import org.example.observer.PhoneDisplay;
 import org.example.observer.WebAppDisplay;
 import org.example.observer.WeatherObserver;
 import org.example.strategy.UpdateStrategy;
+import org.example.tracing.UpdateTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class WeatherStation {
-    private final Map<String, WeatherObserver> idToObserver = new LinkedHashMap<>();
-    private UpdateStrategy currentStrategy;
-    private WeatherData lastData;
+    private static final Logger log = LoggerFactory.getLogger(WeatherStation.class);
+    public static final String DEFAULT_ID = "default";
 
-    public WeatherStation(Collection<UpdateStrategy> strategies) {
-        this.currentStrategy = strategies.stream().findFirst().orElse(null);
+    private final String id;
+    private final ObserverRegistry observers = new ObserverRegistry();
+    private final SubscriptionIndex subscriptions = new SubscriptionIndex();
+    private final ObserverDispatcher dispatcher;
+    private final List<StationListener> listeners;
+    private final AtomicReference<StationSnapshot> state;
+    private final boolean coalesce;
+    private final TokenBucket triggerLimit;
+    private final AtomicReference<PendingFanOut> pendingFanOut = new AtomicReference<>();
+    private final AtomicBoolean fanOutRunning = new AtomicBoolean();
+    private final AtomicLong fanOuts = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final WeatherMetrics metrics;
+
+    @Autowired
+    public WeatherStation(Collection<UpdateStrategy> strategies, ObserverDispatcher dispatcher,
+                          ObjectProvider<StationListener> listeners, UpdatePolicy policy, WeatherMetrics metrics) {
+        this(DEFAULT_ID, strategies.stream().findFirst().orElse(null), dispatcher, listeners.orderedStream().toList(),
+                policy, metrics);
+    }
+
+    public WeatherStation(String id, UpdateStrategy initialStrategy, ObserverDispatcher dispatcher,
+                          List<StationListener> listeners) {
+        this(id, initialStrategy, dispatcher, listeners, UpdatePolicy.UNLIMITED);
+    }
+
+    public WeatherStation(String id, UpdateStrategy initialStrategy, ObserverDispatcher dispatcher,
+                          List<StationListener> listeners, UpdatePolicy policy) {
+        this(id, initialStrategy, dispatcher, listeners, policy, WeatherMetrics.NOOP);
+    }
+
+    public WeatherStation(String id, UpdateStrategy initialStrategy, ObserverDispatcher dispatcher,
+                          List<StationListener> listeners, UpdatePolicy policy, WeatherMetrics metrics) {
+        this.id = Objects.requireNonNull(id);
+        this.state = new AtomicReference<>(new StationSnapshot(0, System.currentTimeMillis(), initialStrategy, null));
+        this.dispatcher = dispatcher;
+        this.listeners = List.copyOf(listeners);
+        this.coalesce = policy.isCoalesce();
+        this.triggerLimit = policy.newBucket();
+        this.metrics = metrics;
+    }
+
+    public String getId() {
+        return id;
     }
 
     public void setStrategy(UpdateStrategy strategy) {
-        this.currentStrategy = Objects.requireNonNull(strategy);
+        Objects.requireNonNull(strategy);
+        state.updateAndGet(s -> s.withStrategy(strategy));
+        listeners.forEach(l -> l.onStrategyChanged(this));
     }
 
     public UpdateStrategy getCurrentStrategy() {
-        return currentStrategy;
+        return state.get().getStrategy();
     }
 
     public WeatherData getLastData() {
-        return lastData;
+        return state.get().getData();
+    }
+
+    public StationSnapshot getSnapshot() {
+        return state.get();
+    }
+
+    public long getVersion() {
+        return state.get().getVersion();
+    }
+
+    public boolean hasChangedSince(long version) {
+        return state.get().getVersion() > version;
+    }
+
+    /**
+     * Seeds the last reading from persisted state without notifying observers or listeners.
+     * Has no effect once a reading has been committed.
+     */
+    public void restore(WeatherData data) {
+        Objects.requireNonNull(data);
+        state.updateAndGet(s -> s.getData() == null ? s.withData(data) : s);
     }
 
     public Collection<WeatherObserver> getObservers() {
-        return Collections.unmodifiableCollection(idToObserver.values());
+        return observers.values();
+    }
+
+    public long getObserversVersion() {
+        return observers.getModificationCount();
     }
 
     public boolean subscribePhone(String id) {
-        return addObserver(new PhoneDisplay(id));
+        return subscribePhone(id, false);
+    }
+
+    public boolean subscribePhone(String id, boolean batchEvents) {
+        return subscribePhone(id, batchEvents, SubscriptionFilter.NONE);
+    }
+
+    public boolean subscribePhone(String id, boolean batchEvents, SubscriptionFilter filter) {
+        return addObserver(new PhoneDisplay(id, batchEvents), filter);
     }
 
     public boolean subscribeWebApp(String id) {
-        return addObserver(new WebAppDisplay(id));
+        return subscribeWebApp(id, false);
+    }
+
+    public boolean subscribeWebApp(String id, boolean batchEvents) {
+        return subscribeWebApp(id, batchEvents, SubscriptionFilter.NONE);
+    }
+
+    public boolean subscribeWebApp(String id, boolean batchEvents, SubscriptionFilter filter) {
+        return addObserver(new WebAppDisplay(id, batchEvents), filter);
     }
 
     public boolean subscribeOutdoor(String id) {
-        return addObserver(new OutdoorDisplay(id));
+        return subscribeOutdoor(id, false);
+    }
+
+    public boolean subscribeOutdoor(String id, boolean batchEvents) {
+        return subscribeOutdoor(id, batchEvents, SubscriptionFilter.NONE);
     }
 
-    private boolean addObserver(WeatherObserver observer) {
-        if (idToObserver.containsKey(observer.getId())) return false;
-        idToObserver.put(observer.getId(), observer);
-        if (lastData != null) observer.update(lastData);
+    public boolean subscribeOutdoor(String id, boolean batchEvents, SubscriptionFilter filter) {
+        return addObserver(new OutdoorDisplay(id, batchEvents), filter);
+    }
+
+    private boolean addObserver(WeatherObserver observer, SubscriptionFilter filter) {
+        Objects.requireNonNull(filter);
+        if (!observers.add(observer)) return false;
+        subscriptions.add(observer, filter);
+        // An unsubscribe may have raced in before the index entry existed; drop it again if so.
+        if (observers.get(observer.getId()) != observer) subscriptions.remove(observer);
+        WeatherData lastData = getLastData();
+        if (lastData != null) dispatcher.dispatch(observer, lastData, UpdateTrace.start(this.id));
+        state.updateAndGet(StationSnapshot::touch);
+        listeners.forEach(l -> l.onObserversChanged(this));
         return true;
     }
 
     public boolean unsubscribe(String id) {
-        return idToObserver.remove(id) != null;
+        WeatherObserver observer = observers.get(id);
+        if (observer == null || !observers.remove(id)) return false;
+        subscriptions.remove(observer);
+        state.updateAndGet(StationSnapshot::touch);
+        listeners.forEach(l -> l.onObserversChanged(this));
+        return true;
     }
 
+    public UpdateStats getUpdateStats() {
+        return new UpdateStats(fanOuts.get(), coalesced.get(), rateLimited.get());
+    }
+
+    /**
+     * Produces and commits a reading through the current strategy and notifies observers.
+     * The update runs under a new {@link UpdateTrace} that follows it into every observer.
+     *
+     * @throws RateLimitedException if the station's trigger rate limit is exhausted
+     */
     public WeatherData triggerUpdate(WeatherData manualInputOrNull) {
-        if (currentStrategy == null) {
+        UpdateStrategy strategy = getCurrentStrategy();
+        if (strategy == null) {
             throw new IllegalStateException("No update strategy has been set");
         }
-        WeatherData data = currentStrategy.update(manualInputOrNull);
-        this.lastData = data;
-        notifyObservers(data);
-        return data;
+        acquireTrigger();
+        UpdateTrace trace = UpdateTrace.start(id);
+        UpdateTrace previousTrace = trace.enter();
+        try {
+            long started = System.nanoTime();
+            WeatherData data = strategy.update(id, manualInputOrNull);
+            Commit commit = commit(data);
+            metrics.recordReadings(1);
+            if (data instanceof BatchedWeatherData batched) {
+                // Observers get the window summary; listeners such as history keep the raw samples.
+                ReadingSlab samples = batched.toSlab();
+                listeners.forEach(l -> l.onReadings(this, commit.committed(), samples));
+            } else {
+                listeners.forEach(l -> l.onReading(this, commit.committed()));
+            }
+            notifyObservers(commit.replaced(), data, null, trace);
+            metrics.recordTrigger(strategy.getName(), System.nanoTime() - started);
+            return data;
+        } finally {
+            UpdateTrace.restore(previousTrace);
+        }
+    }
+
+    public WeatherData ingestBatch(List<WeatherData> readings) {
+        return ingestBatch(ReadingSlab.of(readings));
+    }
+
+    /**
+     * Commits a batch of externally supplied readings (oldest first) in one step: the latest
+     * becomes the station's current reading, listeners see the whole batch once, and each
+     * matching observer gets a single notification. Subscription filters compare the latest
+     * reading of the batch with the reading that was current before it. A batch counts as one
+     * trigger against the rate limit and its fan-out is coalesced like any other update.
+     *
+     * The station takes ownership of the slab; only the latest reading is turned into an object.
+     *
+     * @throws RateLimitedException if the station's trigger rate limit is exhausted
+     */
+    public WeatherData ingestBatch(ReadingSlab batch) {
+        if (batch.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one reading");
+        }
+        acquireTrigger();
+        UpdateTrace trace = UpdateTrace.start(id);
+        UpdateTrace previousTrace = trace.enter();
+        try {
+            WeatherData latest = batch.toWeatherData(batch.size() - 1);
+            Commit commit = commit(latest);
+            metrics.recordReadings(batch.size());
+            listeners.forEach(l -> l.onReadings(this, commit.committed(), batch));
+            notifyObservers(commit.replaced(), latest, batch.asList(), trace);
+            return latest;
+        } finally {
+            UpdateTrace.restore(previousTrace);
+        }
+    }
+
+    private void acquireTrigger() {
+        if (triggerLimit != null && !triggerLimit.tryAcquire()) {
+            rateLimited.incrementAndGet();
+            metrics.recordRateLimited();
+            throw new RateLimitedException(id);
+        }
+    }
+
+    /**
+     * Makes the reading current, remembering the reading it replaced for subscription filters.
+     */
+    private Commit commit(WeatherData data) {
+        while (true) {
+            StationSnapshot current = state.get();
+            StationSnapshot next = current.withData(data);
+            if (state.compareAndSet(current, next)) return new Commit(current.getData(), next);
+        }
+    }
+
+    private record Commit(WeatherData replaced, StationSnapshot committed) {
+    }
+
+    /**
+     * In coalescing mode at most one fan-out runs at a time; readings and batches that arrive
+     * meanwhile replace each other in a single pending slot and only the latest is fanned out next.
+     *
+     * @param batch all readings of an ingested batch, ending with {@code data}; null for a single reading
+     */
+    private void notifyObservers(WeatherData previous, WeatherData data, List<WeatherData> batch, UpdateTrace trace) {
+        if (!coalesce) {
+            fanOut(previous, data, batch, trace);
+            return;
+        }
+        PendingFanOut replaced = pendingFanOut.getAndUpdate(
+                p -> new PendingFanOut(p == null ? previous : p.previous(), data, batch, trace));
+        if (replaced != null) {
+            coalesced.incrementAndGet();
+            metrics.recordCoalesced();
+        }
+        drainPendingFanOut();
     }
 
-    private void notifyObservers(WeatherData data) {
-        System.out.println("\n🔔 Notifying " + idToObserver.size() + " observers...");
-        for (WeatherObserver observer : idToObserver.values()) {
-            observer.update(data);
+    private void drainPendingFanOut() {
+        while (pendingFanOut.get() != null && fanOutRunning.compareAndSet(false, true)) {
+            PendingFanOut next = pendingFanOut.getAndSet(null);
+            if (next == null) {
+                fanOutRunning.set(false);
+                continue;
+            }
+            CompletableFuture<Void> delivered;
+            try {
+                delivered = fanOut(next.previous(), next.data(), next.batch(), next.trace());
+            } catch (RuntimeException e) {
+                // Release the slot, or no later reading would ever be fanned out.
+                fanOutRunning.set(false);
+                log.error("❌ Fan-out for station {} failed: {}", id, e.getMessage());
+                continue;
+            }
+            delivered.whenComplete((ignored, error) -> {
+                fanOutRunning.set(false);
+                drainPendingFanOut();
+            });
+            return;
         }
-        System.out.println("✅ All observers notified\n");
+    }
+
+    private CompletableFuture<Void> fanOut(WeatherData previous, WeatherData data, List<WeatherData> batch,
+                                           UpdateTrace trace) {
+        List<WeatherObserver> recipients = subscriptions.match(previous, data, System.currentTimeMillis());
+        fanOuts.incrementAndGet();
+        long started = System.nanoTime();
+        CompletableFuture<Void> delivered = batch == null
+                ? dispatcher.dispatch(recipients, data, trace)
+                : dispatcher.dispatchBatch(recipients, batch, data, trace);
+        return delivered.thenRun(() -> {
+            long elapsed = System.nanoTime() - started;
+            metrics.recordFanOut(recipients.size(), elapsed);
+            if (batch == null) {
+                log.info("🔔 Station {} notified {} observers in {} ms (trace {})",
+                        id, recipients.size(), elapsed / 1_000_000, trace);
+            } else {
+                log.info("🔔 Station {} notified {} observers of a batch of {} readings in {} ms (trace {})",
+                        id, recipients.size(), batch.size(), elapsed / 1_000_000, trace);
+            }
+        });
+    }
+
+    private record PendingFanOut(WeatherData previous, WeatherData data, List<WeatherData> batch, UpdateTrace trace) {
     }
 }
 
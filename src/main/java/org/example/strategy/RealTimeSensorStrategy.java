@@ -1,15 +1,29 @@
 package org.example.strategy;
 
 import org.example.model.WeatherData;
+import org.example.sensor.SensorFeedListener;
+import org.example.sensor.SensorRingBuffer;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Reports the latest sample received by the sensor feed, falling back to a random reading
+ * while the feed is disabled or has not delivered anything yet.
+ */
 @Component
 public class RealTimeSensorStrategy implements UpdateStrategy {
+    private final SensorRingBuffer feed;
+
+    public RealTimeSensorStrategy(SensorFeedListener listener) {
+        this.feed = listener.getRing();
+    }
+
     @Override
     public WeatherData update(WeatherData manualInputOrNull) {
+        WeatherData latest = feed.latest();
+        if (latest != null) return latest;
         double temperature = ThreadLocalRandom.current().nextDouble(-10.0, 40.0);
         double humidity = ThreadLocalRandom.current().nextDouble(10.0, 100.0);
         double wind = ThreadLocalRandom.current().nextDouble(0.0, 60.0);
@@ -21,5 +35,3 @@ public class RealTimeSensorStrategy implements UpdateStrategy {
         return "REALTIME";
     }
 }
-
-
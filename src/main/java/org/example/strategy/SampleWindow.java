@@ -0,0 +1,66 @@
+package org.example.strategy;
+
+import org.example.model.BatchedWeatherData;
+import org.example.model.Metric;
+
+/**
+ * Fixed-capacity buffer of the samples taken since the last drain, stored column-wise in
+ * primitive arrays. When full, the oldest samples are overwritten.
+ */
+class SampleWindow {
+    private final long[] millis;
+    private final double[][] values;
+    private final double[] latest = {Double.NaN, Double.NaN, Double.NaN};
+    private int start;
+    private int size;
+
+    SampleWindow(int capacity) {
+        this.millis = new long[capacity];
+        this.values = new double[Metric.values().length][capacity];
+    }
+
+    synchronized void add(long observedAtMillis, double temperature, double humidity, double wind) {
+        int slot = (start + size) % millis.length;
+        if (size == millis.length) {
+            start = (start + 1) % millis.length;
+        } else {
+            size++;
+        }
+        millis[slot] = observedAtMillis;
+        values[Metric.TEMPERATURE.ordinal()][slot] = temperature;
+        values[Metric.HUMIDITY.ordinal()][slot] = humidity;
+        values[Metric.WIND.ordinal()][slot] = wind;
+        latest[Metric.TEMPERATURE.ordinal()] = temperature;
+        latest[Metric.HUMIDITY.ordinal()] = humidity;
+        latest[Metric.WIND.ordinal()] = wind;
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Summarizes and clears the buffered samples; the window must not be empty.
+     */
+    synchronized BatchedWeatherData drain() {
+        long[] sampleMillis = new long[size];
+        double[][] series = new double[values.length][size];
+        for (int i = 0; i < size; i++) {
+            int slot = (start + i) % millis.length;
+            sampleMillis[i] = millis[slot];
+            for (int m = 0; m < values.length; m++) {
+                series[m][i] = values[m][slot];
+            }
+        }
+        start = 0;
+        size = 0;
+        return new BatchedWeatherData(sampleMillis, series);
+    }
+
+    /**
+     * Most recent sample of the metric, kept across drains; NaN before the first sample.
+     */
+    synchronized double latest(Metric metric) {
+        return latest[metric.ordinal()];
+    }
+}
@@ -1,63 +1,103 @@
 package org.example.strategy;
 
+import jakarta.annotation.PreDestroy;
+import org.example.model.Metric;
 import org.example.model.WeatherData;
 import org.example.service.WeatherStation;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Samples a simulated sensor for every station on this strategy and emits one summary per window.
+ *
+ * A background sampler adds a reading to each station's {@link SampleWindow} every
+ * {@code weather.batch.sample-ms}; each update drains the window into a
+ * {@link org.example.model.BatchedWeatherData} holding the means, min/max/last and the raw series.
+ * A station's window is dropped when it leaves this strategy or is removed, see {@link #release}.
+ */
 @Component
 public class ScheduledBatchStrategy implements UpdateStrategy {
-    private final WeatherStation weatherStation;
-    private boolean schedulingEnabled = true;
+    private static final double[] LOWER = {-5.0, 20.0, 0.0};
+    private static final double[] UPPER = {35.0, 90.0, 40.0};
+    private static final double[] STEP = {0.3, 1.0, 2.0};
 
-    public ScheduledBatchStrategy(@Lazy WeatherStation weatherStation) {
-        this.weatherStation = weatherStation;
+    private final ConcurrentHashMap<String, SampleWindow> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sampler;
+    private final int windowCapacity;
+    private volatile boolean schedulingEnabled = true;
+
+    public ScheduledBatchStrategy(@Value("${weather.batch.sample-ms:1000}") long sampleMillis,
+                                  @Value("${weather.batch.window-capacity:3600}") int windowCapacity) {
+        this.windowCapacity = Math.max(1, windowCapacity);
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batch-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sampleAll, sampleMillis, Math.max(1, sampleMillis), TimeUnit.MILLISECONDS);
     }
 
     @Override
     public WeatherData update(WeatherData manualInputOrNull) {
-        double temperature = ThreadLocalRandom.current().nextDouble(-5.0, 35.0);
-        double humidity = ThreadLocalRandom.current().nextDouble(20.0, 90.0);
-        double wind = ThreadLocalRandom.current().nextDouble(0.0, 40.0);
-        return new WeatherData(temperature, humidity, wind, Instant.now());
+        return update(WeatherStation.DEFAULT_ID, manualInputOrNull);
     }
 
     @Override
-    public String getName() {
-        return "SCHEDULED";
+    public WeatherData update(String stationId, WeatherData manualInputOrNull) {
+        SampleWindow window = windows.computeIfAbsent(stationId, id -> new SampleWindow(windowCapacity));
+        // A window drained again before the sampler ran has nothing to summarize; sample it on the spot.
+        if (window.isEmpty()) sample(window, System.currentTimeMillis());
+        return window.drain();
     }
 
     /**
-     * Scheduled method that automatically triggers weather updates every 30 seconds
-     * when this strategy is the active strategy.
-     * 
-     * The fixedDelayString means it will wait 30 seconds after the previous execution
-     * completes before running again.
+     * Drops the station's sample window; called when the station leaves this strategy or is removed.
      */
-    @Scheduled(fixedDelayString = "30000", initialDelayString = "5000")
-    public void scheduledUpdate() {
-        if (!schedulingEnabled) {
-            return;
-        }
+    public void release(String stationId) {
+        windows.remove(stationId);
+    }
 
-        // Only trigger updates if this strategy is currently active
-        UpdateStrategy currentStrategy = weatherStation.getCurrentStrategy();
-        if (currentStrategy != null && "SCHEDULED".equalsIgnoreCase(currentStrategy.getName())) {
-            try {
-                System.out.println("⏰ Scheduled batch update triggered (SCHEDULED strategy)");
-                weatherStation.triggerUpdate(null);
-            } catch (Exception e) {
-                System.err.println("❌ Error in scheduled update: " + e.getMessage());
-            }
+    private void sampleAll() {
+        long now = System.currentTimeMillis();
+        for (SampleWindow window : windows.values()) {
+            sample(window, now);
         }
     }
 
     /**
-     * Enable or disable automatic scheduling for this strategy
+     * Bounded random walk per metric, so consecutive samples are correlated like a real sensor's.
+     */
+    private static void sample(SampleWindow window, long now) {
+        double temperature = step(window, Metric.TEMPERATURE);
+        double humidity = step(window, Metric.HUMIDITY);
+        double wind = step(window, Metric.WIND);
+        window.add(now, temperature, humidity, wind);
+    }
+
+    private static double step(SampleWindow window, Metric metric) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int m = metric.ordinal();
+        double previous = window.latest(metric);
+        double value = Double.isNaN(previous)
+                ? random.nextDouble(LOWER[m], UPPER[m])
+                : previous + random.nextGaussian() * STEP[m];
+        return Math.max(LOWER[m], Math.min(UPPER[m], value));
+    }
+
+    @Override
+    public String getName() {
+        return "SCHEDULED";
+    }
+
+    /**
+     * Enable or disable automatic scheduling for every station using this strategy.
+     * Stations are polled by {@link org.example.scheduling.StationScheduler}.
      */
     public void setSchedulingEnabled(boolean enabled) {
         this.schedulingEnabled = enabled;
@@ -66,6 +106,9 @@ public class ScheduledBatchStrategy implements UpdateStrategy {
     public boolean isSchedulingEnabled() {
         return schedulingEnabled;
     }
-}
-
 
+    @PreDestroy
+    public void shutdown() {
+        sampler.shutdownNow();
+    }
+}
@@ -5,6 +5,13 @@ import org.example.model.WeatherData;
 public interface UpdateStrategy {
     WeatherData update(WeatherData manualInputOrNull);
     String getName();
+
+    /**
+     * Variant called by stations, for strategies that keep per-station state.
+     */
+    default WeatherData update(String stationId, WeatherData manualInputOrNull) {
+        return update(manualInputOrNull);
+    }
 }
 
 
@@ -0,0 +1,111 @@
+package org.example.tracing;
+
+import org.example.delivery.DeliveryOutcome;
+import org.example.observer.WeatherObserver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-memory record of the most recent observer deliveries.
+ *
+ * Slots are preallocated and overwritten in a ring, so recording never allocates. Each slot
+ * is guarded by its own monitor: writers claim different slots and almost never contend, and
+ * readers copying the ring only hold one slot at a time.
+ */
+@Component
+public class FlightRecorder {
+    private final int mask;
+    private final Slot[] slots;
+    private final AtomicLong written = new AtomicLong();
+
+    public FlightRecorder(@Value("${weather.tracing.recorder-capacity:8192}") int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.mask = size - 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    public void record(UpdateTrace trace, long spanId, WeatherObserver observer, long durationNanos,
+                       DeliveryOutcome outcome, boolean slowLane) {
+        long sequence = written.getAndIncrement();
+        Slot slot = slots[(int) (sequence & mask)];
+        synchronized (slot) {
+            slot.sequence = sequence;
+            slot.traceId = trace == null ? 0 : trace.getTraceId();
+            slot.stationId = trace == null ? null : trace.getStationId();
+            slot.spanId = spanId;
+            slot.observer = observer;
+            slot.durationNanos = durationNanos;
+            slot.finishedAtMillis = System.currentTimeMillis();
+            slot.outcome = outcome;
+            slot.slowLane = slowLane;
+        }
+    }
+
+    public long getRecordedCount() {
+        return written.get();
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Deliveries that finished at or after the given time, oldest first.
+     */
+    public List<ObserverTiming> since(long sinceMillis) {
+        return collect(slot -> slot.finishedAtMillis >= sinceMillis);
+    }
+
+    /**
+     * Every delivery still held for the given trace, oldest first.
+     */
+    public List<ObserverTiming> trace(long traceId) {
+        return collect(slot -> slot.traceId == traceId);
+    }
+
+    private List<ObserverTiming> collect(Predicate<Slot> filter) {
+        List<Copy> copies = new ArrayList<>();
+        for (Slot slot : slots) {
+            synchronized (slot) {
+                if (slot.observer != null && filter.test(slot)) copies.add(new Copy(slot.sequence, toTiming(slot)));
+            }
+        }
+        copies.sort(Comparator.comparingLong(Copy::sequence));
+        List<ObserverTiming> timings = new ArrayList<>(copies.size());
+        for (Copy copy : copies) {
+            timings.add(copy.timing());
+        }
+        return timings;
+    }
+
+    private static ObserverTiming toTiming(Slot slot) {
+        return new ObserverTiming(UpdateTrace.toHex(slot.traceId), UpdateTrace.toHex(slot.spanId), slot.stationId,
+                slot.observer.getId(), slot.observer.getClass().getSimpleName(), slot.durationNanos / 1_000,
+                Instant.ofEpochMilli(slot.finishedAtMillis), slot.outcome, slot.slowLane);
+    }
+
+    private record Copy(long sequence, ObserverTiming timing) {
+    }
+
+    private static final class Slot {
+        private long sequence;
+        private long traceId;
+        private long spanId;
+        private String stationId;
+        private WeatherObserver observer;
+        private long durationNanos;
+        private long finishedAtMillis;
+        private DeliveryOutcome outcome;
+        private boolean slowLane;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.tracing;
+
+/**
+ * Timings of one observer over the recent updates still held by the {@link FlightRecorder}.
+ */
+public record ObserverStats(String stationId, String observerId, String observerType, int samples,
+                            long meanMicros, long maxMicros, int failures, int timeouts, boolean quarantined) {
+}
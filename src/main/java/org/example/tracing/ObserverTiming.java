@@ -0,0 +1,13 @@
+package org.example.tracing;
+
+import org.example.delivery.DeliveryOutcome;
+
+import java.time.Instant;
+
+/**
+ * One observer delivery as kept by the {@link FlightRecorder}.
+ */
+public record ObserverTiming(String traceId, String spanId, String stationId, String observerId,
+                             String observerType, long durationMicros, Instant finishedAt,
+                             DeliveryOutcome outcome, boolean slowLane) {
+}
@@ -0,0 +1,180 @@
+package org.example.tracing;
+
+import jakarta.annotation.PreDestroy;
+import org.example.delivery.DeliveryOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranks observers by their recent delivery times and keeps the set of quarantined observers.
+ *
+ * Quarantined observers are delivered on the dispatcher's slow lane, where station fan-outs do
+ * not wait for them. With auto-quarantine on, a background check moves observers whose mean
+ * delivery time over the recent window reaches the threshold onto the slow lane, and moves them
+ * back once their mean drops below half the threshold.
+ */
+@Component
+public class SlowObserverDetector {
+    private static final Logger log = LoggerFactory.getLogger(SlowObserverDetector.class);
+
+    private final FlightRecorder recorder;
+    private final long thresholdMicros;
+    private final int minSamples;
+    private final long windowMillis;
+    private final boolean autoQuarantine;
+    private final long checkIntervalMillis;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Quarantine>> quarantined = new ConcurrentHashMap<>();
+    private ScheduledExecutorService checker;
+
+    public SlowObserverDetector(FlightRecorder recorder,
+                                @Value("${weather.tracing.slow-threshold-ms:250}") long thresholdMillis,
+                                @Value("${weather.tracing.min-samples:5}") int minSamples,
+                                @Value("${weather.tracing.window-ms:60000}") long windowMillis,
+                                @Value("${weather.tracing.auto-quarantine:true}") boolean autoQuarantine,
+                                @Value("${weather.tracing.check-interval-ms:5000}") long checkIntervalMillis) {
+        this.recorder = recorder;
+        this.thresholdMicros = thresholdMillis * 1_000;
+        this.minSamples = Math.max(1, minSamples);
+        this.windowMillis = windowMillis;
+        this.autoQuarantine = autoQuarantine;
+        this.checkIntervalMillis = Math.max(100, checkIntervalMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!autoQuarantine) return;
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slow-observer-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(this::check, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isQuarantined(String stationId, String observerId) {
+        if (quarantined.isEmpty() || stationId == null) return false;
+        Map<String, Quarantine> station = quarantined.get(stationId);
+        return station != null && station.containsKey(observerId);
+    }
+
+    public boolean quarantine(String stationId, String observerId, String reason) {
+        Quarantine entry = new Quarantine(stationId, observerId, Instant.now(), reason);
+        return quarantined.computeIfAbsent(stationId, id -> new ConcurrentHashMap<>())
+                .putIfAbsent(observerId, entry) == null;
+    }
+
+    public boolean release(String stationId, String observerId) {
+        Map<String, Quarantine> station = quarantined.get(stationId);
+        return station != null && station.remove(observerId) != null;
+    }
+
+    public List<Quarantine> getQuarantined() {
+        List<Quarantine> all = new ArrayList<>();
+        quarantined.values().forEach(station -> all.addAll(station.values()));
+        all.sort(Comparator.comparing(Quarantine::since));
+        return all;
+    }
+
+    /**
+     * The observers with the highest mean delivery time over the recent window, slowest first.
+     */
+    public List<ObserverStats> slowest(int limit) {
+        List<ObserverStats> stats = recentStats();
+        stats.sort(Comparator.comparingLong(ObserverStats::meanMicros).reversed());
+        return stats.size() > limit ? new ArrayList<>(stats.subList(0, limit)) : stats;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMicros / 1_000;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public boolean isAutoQuarantine() {
+        return autoQuarantine;
+    }
+
+    void check() {
+        try {
+            for (ObserverStats stats : recentStats()) {
+                if (stats.samples() < minSamples) continue;
+                if (!stats.quarantined() && stats.meanMicros() >= thresholdMicros) {
+                    String reason = "mean " + stats.meanMicros() / 1_000 + " ms over " + stats.samples() + " updates";
+                    if (quarantine(stats.stationId(), stats.observerId(), reason)) {
+                        log.warn("🐢 Observer [{}] on station {} moved to the slow lane: {}",
+                                stats.observerId(), stats.stationId(), reason);
+                    }
+                } else if (stats.quarantined() && stats.meanMicros() < thresholdMicros / 2
+                        && release(stats.stationId(), stats.observerId())) {
+                    log.info("✅ Observer [{}] on station {} recovered (mean {} ms), back on the normal lane",
+                            stats.observerId(), stats.stationId(), stats.meanMicros() / 1_000);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Slow observer check failed: {}", e.getMessage());
+        }
+    }
+
+    private List<ObserverStats> recentStats() {
+        Map<Key, Accumulator> byObserver = new HashMap<>();
+        for (ObserverTiming timing : recorder.since(System.currentTimeMillis() - windowMillis)) {
+            if (timing.stationId() == null) continue;
+            byObserver.computeIfAbsent(new Key(timing.stationId(), timing.observerId()),
+                    key -> new Accumulator(timing.observerType())).add(timing);
+        }
+        List<ObserverStats> stats = new ArrayList<>(byObserver.size());
+        byObserver.forEach((key, acc) -> stats.add(new ObserverStats(key.stationId(), key.observerId(), acc.type,
+                acc.samples, acc.totalMicros / acc.samples, acc.maxMicros, acc.failures, acc.timeouts,
+                isQuarantined(key.stationId(), key.observerId()))));
+        return stats;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (checker != null) checker.shutdownNow();
+    }
+
+    public record Quarantine(String stationId, String observerId, Instant since, String reason) {
+    }
+
+    private record Key(String stationId, String observerId) {
+    }
+
+    private static final class Accumulator {
+        private final String type;
+        private int samples;
+        private long totalMicros;
+        private long maxMicros;
+        private int failures;
+        private int timeouts;
+
+        private Accumulator(String type) {
+            this.type = type;
+        }
+
+        private void add(ObserverTiming timing) {
+            samples++;
+            totalMicros += timing.durationMicros();
+            maxMicros = Math.max(maxMicros, timing.durationMicros());
+            if (timing.outcome() == DeliveryOutcome.FAILED) failures++;
+            if (timing.outcome() == DeliveryOutcome.TIMED_OUT) timeouts++;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/slowobservers}: the slowest observers over recent updates, the quarantined
+ * ones, every delivery of one trace ({@code GET .../{traceId}}), and manual quarantine
+ * ({@code POST}) or release ({@code DELETE}) at {@code .../{stationId}/{observerId}}.
+ */
+@Component
+@Endpoint(id = "slowobservers")
+public class SlowObserversEndpoint {
+    private final SlowObserverDetector detector;
+    private final FlightRecorder recorder;
+    private final int reportSize;
+
+    public SlowObserversEndpoint(SlowObserverDetector detector, FlightRecorder recorder,
+                                 @Value("${weather.tracing.report-size:10}") int reportSize) {
+        this.detector = detector;
+        this.recorder = recorder;
+        this.reportSize = reportSize;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("thresholdMs", detector.getThresholdMillis());
+        report.put("windowMs", detector.getWindowMillis());
+        report.put("autoQuarantine", detector.isAutoQuarantine());
+        report.put("recorded", recorder.getRecordedCount());
+        report.put("slowest", detector.slowest(reportSize));
+        report.put("quarantined", detector.getQuarantined());
+        return report;
+    }
+
+    @ReadOperation
+    public List<ObserverTiming> trace(@Selector String traceId) {
+        return recorder.trace(Long.parseUnsignedLong(traceId, 16));
+    }
+
+    @WriteOperation
+    public Map<String, Object> quarantine(@Selector String stationId, @Selector String observerId) {
+        boolean changed = detector.quarantine(stationId, observerId, "quarantined manually");
+        return Map.of("stationId", stationId, "observerId", observerId, "quarantined", true, "changed", changed);
+    }
+
+    @DeleteOperation
+    public Map<String, Object> release(@Selector String stationId, @Selector String observerId) {
+        boolean changed = detector.release(stationId, observerId);
+        return Map.of("stationId", stationId, "observerId", observerId, "quarantined", false, "changed", changed);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.tracing;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Trace of one station update, from the strategy call through every observer notification.
+ *
+ * The trace is bound to the current thread (and to the SLF4J MDC as {@code traceId}/{@code spanId})
+ * while the station produces the reading and again on whichever thread delivers it to each
+ * observer; every observer delivery is its own span.
+ */
+public final class UpdateTrace {
+    public static final String TRACE_ID_KEY = "traceId";
+    public static final String SPAN_ID_KEY = "spanId";
+
+    private static final ThreadLocal<UpdateTrace> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong spans = new AtomicLong();
+
+    private final long traceId;
+    private final String traceIdHex;
+    private final String stationId;
+
+    private UpdateTrace(long traceId, String stationId) {
+        this.traceId = traceId;
+        this.traceIdHex = toHex(traceId);
+        this.stationId = stationId;
+    }
+
+    public static UpdateTrace start(String stationId) {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return new UpdateTrace(id, stationId);
+    }
+
+    /**
+     * The trace bound to the current thread, or null outside an update.
+     */
+    public static UpdateTrace current() {
+        return CURRENT.get();
+    }
+
+    public static long nextSpanId() {
+        return spans.incrementAndGet();
+    }
+
+    /**
+     * Binds the trace to the current thread and returns the previously bound one, which must be
+     * handed back to {@link #restore} in a finally block.
+     */
+    public UpdateTrace enter() {
+        UpdateTrace previous = CURRENT.get();
+        CURRENT.set(this);
+        MDC.put(TRACE_ID_KEY, traceIdHex);
+        return previous;
+    }
+
+    public static void restore(UpdateTrace previous) {
+        if (previous == null) {
+            CURRENT.remove();
+            MDC.remove(TRACE_ID_KEY);
+        } else {
+            CURRENT.set(previous);
+            MDC.put(TRACE_ID_KEY, previous.traceIdHex);
+        }
+    }
+
+    public long getTraceId() {
+        return traceId;
+    }
+
+    public String getTraceIdHex() {
+        return traceIdHex;
+    }
+
+    public String getStationId() {
+        return stationId;
+    }
+
+    public static String toHex(long id) {
+        String hex = Long.toHexString(id);
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+
+    @Override
+    public String toString() {
+        return traceIdHex;
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.model.ReadingSlab;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass parser and validator for bulk reading uploads.
+ *
+ * Accepts a JSON array of reading objects, newline-delimited JSON (one object per line), or a
+ * compact binary form of big-endian 32 byte records (epoch millis, temperature, humidity,
+ * wind). JSON input is read with the streaming parser, so no intermediate maps are built.
+ * {@code observedAt} is optional and may be an ISO-8601 string or epoch milliseconds.
+ * Readings are packed straight into a {@link ReadingSlab}, so the loop does not allocate per reading.
+ */
+@Component
+final class BatchReadingParser {
+    static final String NDJSON = "application/x-ndjson";
+    static final int BINARY_RECORD_BYTES = 32;
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final int INITIAL_SLAB_CAPACITY = 256;
+
+    private final JsonFactory jsonFactory;
+    private final int maxReadings;
+
+    BatchReadingParser(ObjectMapper objectMapper, @Value("${weather.ingest.max-batch:10000}") int maxReadings) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.maxReadings = maxReadings;
+    }
+
+    Result parse(String contentType, InputStream body) throws IOException {
+        if (contentType != null && MediaType.APPLICATION_OCTET_STREAM.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            return parseBinary(body);
+        }
+        return parseJson(body);
+    }
+
+    Result parseJson(InputStream body) throws IOException {
+        Result result = new Result();
+        long receivedAt = System.currentTimeMillis();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) token = parser.nextToken();
+            int index = 0;
+            while (token != null && token != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    result.error(index, "expected a JSON object");
+                    parser.skipChildren();
+                } else {
+                    readObject(parser, index, receivedAt, result);
+                }
+                if (++index > maxReadings) {
+                    result.error(index, "batch exceeds the maximum of " + maxReadings + " readings");
+                    break;
+                }
+                token = parser.nextToken();
+            }
+        }
+        return result.sorted();
+    }
+
+    Result parseBinary(InputStream body) throws IOException {
+        Result result = new Result();
+        DataInputStream in = new DataInputStream(body);
+        int index = 0;
+        while (true) {
+            long epochMillis;
+            try {
+                epochMillis = in.readLong();
+            } catch (EOFException end) {
+                break;
+            }
+            try {
+                double temperature = in.readDouble();
+                double humidity = in.readDouble();
+                double wind = in.readDouble();
+                validate(index, temperature, humidity, wind, result);
+                result.readings.add(epochMillis, temperature, humidity, wind);
+            } catch (EOFException truncated) {
+                result.error(index, "truncated record; binary readings are " + BINARY_RECORD_BYTES + " bytes each");
+                break;
+            }
+            if (++index > maxReadings) {
+                result.error(index, "batch exceeds the maximum of " + maxReadings + " readings");
+                break;
+            }
+        }
+        return result.sorted();
+    }
+
+    private void readObject(JsonParser parser, int index, long receivedAt, Result result) throws IOException {
+        double temperature = Double.NaN;
+        double humidity = Double.NaN;
+        double wind = Double.NaN;
+        long observedAt = receivedAt;
+        boolean valid = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "temperatureCelsius" -> temperature = number(parser, value);
+                case "humidityPercent" -> humidity = number(parser, value);
+                case "windKph" -> wind = number(parser, value);
+                case "observedAt" -> {
+                    if (value == JsonToken.VALUE_NUMBER_INT) {
+                        observedAt = parser.getLongValue();
+                    } else if (value == JsonToken.VALUE_STRING) {
+                        try {
+                            observedAt = Instant.parse(parser.getText()).toEpochMilli();
+                        } catch (DateTimeParseException e) {
+                            result.error(index, "observedAt is not an ISO-8601 instant");
+                            valid = false;
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+            parser.skipChildren();
+        }
+        if (Double.isNaN(temperature) || Double.isNaN(humidity) || Double.isNaN(wind)) {
+            result.error(index, "missing or non-numeric field: temperatureCelsius, humidityPercent, windKph");
+            return;
+        }
+        if (valid && validate(index, temperature, humidity, wind, result)) {
+            result.readings.add(observedAt, temperature, humidity, wind);
+        }
+    }
+
+    private static double number(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT
+                ? parser.getDoubleValue()
+                : Double.NaN;
+    }
+
+    private static boolean validate(int index, double temperature, double humidity, double wind, Result result) {
+        if (!Double.isFinite(temperature) || !Double.isFinite(humidity) || !Double.isFinite(wind)) {
+            result.error(index, "values must be finite numbers");
+            return false;
+        }
+        if (humidity < 0 || humidity > 100) {
+            result.error(index, "humidityPercent must be between 0 and 100");
+            return false;
+        }
+        if (wind < 0) {
+            result.error(index, "windKph must not be negative");
+            return false;
+        }
+        return true;
+    }
+
+    static final class Result {
+        private final ReadingSlab readings = new ReadingSlab(INITIAL_SLAB_CAPACITY);
+        private final List<String> errors = new ArrayList<>();
+        private int errorCount;
+
+        ReadingSlab getReadings() {
+            return readings;
+        }
+
+        List<String> getErrors() {
+            return errors;
+        }
+
+        int getErrorCount() {
+            return errorCount;
+        }
+
+        boolean hasErrors() {
+            return errorCount > 0;
+        }
+
+        private void error(int index, String message) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add("reading " + index + ": " + message);
+        }
+
+        private Result sorted() {
+            readings.sortByTime();
+            return this;
+        }
+    }
+}
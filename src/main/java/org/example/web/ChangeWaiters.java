@@ -0,0 +1,86 @@
+package org.example.web;
+
+import org.example.service.StationListener;
+import org.example.service.StationSnapshot;
+import org.example.service.WeatherStation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Parks long-poll requests until the station's version moves past the one the client has seen,
+ * or until the poll times out. Parked requests hold no servlet thread.
+ */
+@Component
+public class ChangeWaiters implements StationListener {
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final long timeoutMillis;
+
+    public ChangeWaiters(@Value("${weather.longpoll.timeout-ms:30000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Completes with {@code onChange} as soon as the station version exceeds {@code afterVersion},
+     * or with {@code onTimeout} if nothing changes within the long-poll timeout.
+     */
+    public <T> DeferredResult<ResponseEntity<T>> await(WeatherStation station, long afterVersion,
+                                                       Supplier<ResponseEntity<T>> onChange,
+                                                       Supplier<ResponseEntity<T>> onTimeout) {
+        DeferredResult<ResponseEntity<T>> result = new DeferredResult<>(timeoutMillis);
+        if (station.hasChangedSince(afterVersion)) {
+            result.setResult(onChange.get());
+            return result;
+        }
+        Waiter waiter = new Waiter(afterVersion, () -> result.setResult(onChange.get()));
+        result.onTimeout(() -> result.setResult(onTimeout.get()));
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // A change may have been committed between the first check and the registration.
+        if (station.hasChangedSince(afterVersion)) wake(station.getVersion());
+        return result;
+    }
+
+    public int getWaiterCount() {
+        return waiters.size();
+    }
+
+    @Override
+    public void onReading(WeatherStation station, StationSnapshot snapshot) {
+        wake(station.getVersion());
+    }
+
+    @Override
+    public void onObserversChanged(WeatherStation station) {
+        wake(station.getVersion());
+    }
+
+    @Override
+    public void onStrategyChanged(WeatherStation station) {
+        wake(station.getVersion());
+    }
+
+    private void wake(long version) {
+        if (waiters.isEmpty()) return;
+        for (Waiter waiter : waiters) {
+            if (waiter.afterVersion < version && waiters.remove(waiter)) {
+                waiter.complete.run();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final long afterVersion;
+        private final Runnable complete;
+
+        private Waiter(long afterVersion, Runnable complete) {
+            this.afterVersion = afterVersion;
+            this.complete = complete;
+        }
+    }
+}
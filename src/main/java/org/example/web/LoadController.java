@@ -0,0 +1,79 @@
+package org.example.web;
+
+import org.example.load.LoadGenerator;
+import org.example.load.LoadProfile;
+import org.example.load.LoadReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Starts, stops and reports synthetic load runs. Fields omitted from the start request
+ * fall back to the {@code weather.load.*} defaults.
+ */
+@RestController
+@RequestMapping("/api/weather/load")
+public class LoadController {
+    private final LoadGenerator generator;
+    private final LoadProfile defaults;
+
+    public LoadController(LoadGenerator generator,
+                          @Value("${weather.load.seed:42}") long seed,
+                          @Value("${weather.load.stations:1000}") int stations,
+                          @Value("${weather.load.readings-per-second:10000}") int readingsPerSecond,
+                          @Value("${weather.load.duration-seconds:30}") long durationSeconds,
+                          @Value("${weather.load.time-scale:3600}") double timeScale,
+                          @Value("${weather.load.observers-per-station:0}") int observersPerStation,
+                          @Value("${weather.load.max-in-flight:10000}") int maxInFlight,
+                          @Value("${weather.load.origin:2024-01-01T00:00:00Z}") String origin) {
+        this.generator = generator;
+        this.defaults = new LoadProfile(seed, stations, readingsPerSecond, durationSeconds, timeScale,
+                observersPerStation, maxInFlight, Instant.parse(origin).toEpochMilli());
+    }
+
+    @PostMapping
+    public ResponseEntity<?> start(@RequestBody(required = false) Map<String, String> request) {
+        Map<String, String> fields = request == null ? Map.of() : request;
+        LoadProfile profile;
+        try {
+            profile = new LoadProfile(
+                Long.parseLong(fields.getOrDefault("seed", String.valueOf(defaults.seed()))),
+                Integer.parseInt(fields.getOrDefault("stations", String.valueOf(defaults.stations()))),
+                Integer.parseInt(fields.getOrDefault("readingsPerSecond", String.valueOf(defaults.readingsPerSecond()))),
+                Long.parseLong(fields.getOrDefault("durationSeconds", String.valueOf(defaults.durationSeconds()))),
+                Double.parseDouble(fields.getOrDefault("timeScale", String.valueOf(defaults.timeScale()))),
+                Integer.parseInt(fields.getOrDefault("observersPerStation", String.valueOf(defaults.observersPerStation()))),
+                Integer.parseInt(fields.getOrDefault("maxInFlight", String.valueOf(defaults.maxInFlight()))),
+                fields.containsKey("origin") ? Instant.parse(fields.get("origin")).toEpochMilli() : defaults.originMillis());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+        if (!generator.start(profile)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "A load run is still in progress or tearing down"));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(Map.of("message", "Load run started", "profile", profile));
+    }
+
+    @GetMapping
+    public ResponseEntity<?> report() {
+        LoadReport report = generator.getReport();
+        if (report == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> stop() {
+        generator.stop();
+        return ResponseEntity.ok(Map.of("message", "Load run stopping"));
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.web;
+
+import org.example.observer.WeatherObserver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ObserverListing {
+    private ObserverListing() {
+    }
+
+    static Map<String, Object> of(Collection<WeatherObserver> source) {
+        List<Map<String, String>> observers = new ArrayList<>();
+        for (WeatherObserver obs : source) {
+            Map<String, String> info = new HashMap<>();
+            info.put("id", obs.getId());
+            info.put("type", obs.getClass().getSimpleName());
+            observers.add(info);
+        }
+        return Map.of("observers", observers, "count", observers.size());
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.web;
+
+import org.example.model.Metric;
+import org.example.query.Aggregate;
+import org.example.query.HistoryQuery;
+import org.example.query.QueryEngine;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates a metric per station over the reading histories, e.g.
+ * {@code ?metric=wind&aggregate=max&window=24h} or
+ * {@code ?metric=humidity&aggregate=avg&havingAbove=80}. {@code window} is an alternative to
+ * {@code from}/{@code to} ending now; {@code above}/{@code below} filter readings and
+ * {@code havingAbove}/{@code havingBelow} filter the per-station results.
+ */
+@RestController
+@RequestMapping("/api/weather/query")
+public class QueryController {
+    private final QueryEngine engine;
+
+    public QueryController(QueryEngine engine) {
+        this.engine = engine;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> query(@RequestParam String metric,
+                                   @RequestParam(defaultValue = "avg") String aggregate,
+                                   @RequestParam(required = false) Instant from,
+                                   @RequestParam(required = false) Instant to,
+                                   @RequestParam(required = false) String window,
+                                   @RequestParam(required = false) Double above,
+                                   @RequestParam(required = false) Double below,
+                                   @RequestParam(required = false) Double havingAbove,
+                                   @RequestParam(required = false) Double havingBelow,
+                                   @RequestParam(required = false) List<String> stations,
+                                   @RequestParam(defaultValue = "100") int limit) {
+        HistoryQuery query;
+        try {
+            Instant end = to == null ? Instant.now() : to;
+            Instant start;
+            if (window != null) {
+                if (from != null) {
+                    return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Use either 'window' or 'from', not both"));
+                }
+                start = end.minus(DurationStyle.detectAndParse(window));
+            } else {
+                start = from == null ? Instant.EPOCH : from;
+            }
+            query = new HistoryQuery(Metric.fromKey(metric), Aggregate.fromKey(aggregate),
+                start.toEpochMilli(), end.toEpochMilli(),
+                above == null ? Double.NEGATIVE_INFINITY : above,
+                below == null ? Double.POSITIVE_INFINITY : below,
+                havingAbove == null ? Double.NEGATIVE_INFINITY : havingAbove,
+                havingBelow == null ? Double.POSITIVE_INFINITY : havingBelow,
+                stations == null ? List.of() : stations, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+        return ResponseEntity.ok(engine.run(query));
+    }
+}
@@ -0,0 +1,361 @@
+package org.example.web;
+
+import org.example.history.ReadingHistory;
+import org.example.model.WeatherData;
+import org.example.scheduling.StationSchedule;
+import org.example.scheduling.StationScheduler;
+import org.example.service.RateLimitedException;
+import org.example.service.StationRegistry;
+import org.example.service.SubscriptionFilter;
+import org.example.service.UnknownStationException;
+import org.example.service.WeatherStation;
+import org.example.strategy.UpdateStrategy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Station-scoped variant of the weather API: {@code /api/weather/{stationId}/...} addresses one
+ * station in the {@link StationRegistry}. State-changing calls run on the station's shard thread.
+ */
+@RestController
+@RequestMapping("/api/weather")
+public class StationController {
+    private final StationRegistry registry;
+    private final BatchReadingParser batchParser;
+    private final StationScheduler scheduler;
+    private final Map<String, UpdateStrategy> strategiesByName = new HashMap<>();
+
+    public StationController(StationRegistry registry, BatchReadingParser batchParser, StationScheduler scheduler,
+                             List<UpdateStrategy> strategies) {
+        this.registry = registry;
+        this.batchParser = batchParser;
+        this.scheduler = scheduler;
+        for (UpdateStrategy strategy : strategies) {
+            strategiesByName.put(strategy.getName().toUpperCase(), strategy);
+        }
+    }
+
+    @GetMapping("/stations")
+    public Map<String, Object> listStations() {
+        List<String> ids = registry.getStationIds();
+        return Map.of("stations", ids, "count", ids.size(), "shards", registry.getShardCount());
+    }
+
+    @PutMapping("/stations/{stationId}")
+    public ResponseEntity<?> createStation(@PathVariable String stationId) {
+        try {
+            if (!registry.create(stationId)) {
+                return ResponseEntity.ok(Map.of("message", "Station already exists", "id", stationId));
+            }
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Map.of("message", "Station created", "id", stationId, "shard", registry.shardOf(stationId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/stations/{stationId}")
+    public ResponseEntity<?> removeStation(@PathVariable String stationId) {
+        try {
+            if (!registry.remove(stationId)) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(Map.of("message", "Station removed", "id", stationId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{stationId}/current")
+    public ResponseEntity<?> current(@PathVariable String stationId) {
+        WeatherStation station = registry.get(stationId);
+        if (station == null) return unknownStation(stationId);
+        WeatherData data = station.getLastData();
+        if (data == null) {
+            return ResponseEntity.ok(Map.of("message", "No weather data available yet. Trigger an update first."));
+        }
+        return ResponseEntity.ok(data);
+    }
+
+    @GetMapping("/{stationId}/strategy")
+    public ResponseEntity<?> getStrategy(@PathVariable String stationId) {
+        WeatherStation station = registry.get(stationId);
+        if (station == null) return unknownStation(stationId);
+        Map<String, String> res = new HashMap<>();
+        UpdateStrategy s = station.getCurrentStrategy();
+        res.put("current", s == null ? null : s.getName());
+        res.put("available", String.join(",", strategiesByName.keySet()));
+        return ResponseEntity.ok(res);
+    }
+
+    @PutMapping("/{stationId}/strategy/{name}")
+    public ResponseEntity<?> setStrategy(@PathVariable String stationId, @PathVariable String name) {
+        if (registry.get(stationId) == null) return unknownStation(stationId);
+        UpdateStrategy strategy = strategiesByName.get(name.toUpperCase());
+        if (strategy == null) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Unknown strategy: " + name, "available", strategiesByName.keySet()));
+        }
+        try {
+            registry.execute(stationId, station -> {
+                station.setStrategy(strategy);
+                return null;
+            });
+        } catch (UnknownStationException e) {
+            return unknownStation(stationId);
+        }
+        return ResponseEntity.ok(Map.of("message", "Strategy set to " + strategy.getName()));
+    }
+
+    @PostMapping("/{stationId}/update")
+    public ResponseEntity<?> triggerUpdate(@PathVariable String stationId) {
+        WeatherStation station = registry.get(stationId);
+        if (station == null) return unknownStation(stationId);
+        UpdateStrategy current = station.getCurrentStrategy();
+        if (current == null) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "No strategy set"));
+        }
+        if ("MANUAL".equalsIgnoreCase(current.getName())) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Cannot trigger update with MANUAL strategy. Use /update/manual endpoint instead."));
+        }
+        try {
+            return ResponseEntity.ok(registry.execute(stationId, s -> s.triggerUpdate(null)));
+        } catch (RateLimitedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(Map.of("error", e.getMessage()));
+        } catch (UnknownStationException e) {
+            return unknownStation(stationId);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{stationId}/update/manual")
+    public ResponseEntity<?> manualUpdate(@PathVariable String stationId, @RequestBody Map<String, Double> request) {
+        WeatherStation station = registry.get(stationId);
+        if (station == null) return unknownStation(stationId);
+        UpdateStrategy current = station.getCurrentStrategy();
+        if (current == null || !"MANUAL".equalsIgnoreCase(current.getName())) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Current strategy is not MANUAL. Set strategy to MANUAL first."));
+        }
+
+        Double temp = request.get("temperatureCelsius");
+        Double humidity = request.get("humidityPercent");
+        Double wind = request.get("windKph");
+        if (temp == null || humidity == null || wind == null) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Missing required fields: temperatureCelsius, humidityPercent, windKph"));
+        }
+
+        WeatherData input = new WeatherData(temp, humidity, wind, Instant.now());
+        try {
+            return ResponseEntity.ok(registry.execute(stationId, s -> s.triggerUpdate(input)));
+        } catch (RateLimitedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(Map.of("error", e.getMessage()));
+        } catch (UnknownStationException e) {
+            return unknownStation(stationId);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping(path = "/{stationId}/update/batch",
+        consumes = {MediaType.APPLICATION_JSON_VALUE, BatchReadingParser.NDJSON, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> batchUpdate(@PathVariable String stationId,
+                                         @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                         InputStream body) {
+        WeatherStation station = registry.get(stationId);
+        if (station == null) return unknownStation(stationId);
+        UpdateStrategy current = station.getCurrentStrategy();
+        if (current == null || !"MANUAL".equalsIgnoreCase(current.getName())) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Current strategy is not MANUAL. Set strategy to MANUAL first."));
+        }
+        try {
+            BatchReadingParser.Result batch = batchParser.parse(contentType, body);
+            if (batch.hasErrors()) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Batch rejected: " + batch.getErrorCount() + " invalid readings",
+                        "details", batch.getErrors()));
+            }
+            if (batch.getReadings().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Batch must contain at least one reading"));
+            }
+            WeatherData latest = registry.execute(stationId, s -> s.ingestBatch(batch.getReadings()));
+            return ResponseEntity.ok(Map.of("accepted", batch.getReadings().size(), "latest", latest));
+        } catch (RateLimitedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(Map.of("error", e.getMessage()));
+        } catch (UnknownStationException e) {
+            return unknownStation(stationId);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Malformed batch: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{stationId}/schedule")
+    public ResponseEntity<?> getSchedule(@PathVariable String stationId) {
+        if (registry.get(stationId) == null) return unknownStation(stationId);
+        return ResponseEntity.ok(scheduleBody(stationId));
+    }
+
+    /**
+     * Changes the station's polling schedule. Omitted fields keep their current values.
+     */
+    @PutMapping("/{stationId}/schedule")
+    public ResponseEntity<?> setSchedule(@PathVariable String stationId, @RequestBody Map<String, String> request) {
+        if (registry.get(stationId) == null) return unknownStation(stationId);
+        StationSchedule current = scheduler.getSchedule(stationId);
+        try {
+            StationSchedule schedule = new StationSchedule(
+                longField(request, "intervalMs", current.intervalMillis()),
+                longField(request, "jitterMs", current.jitterMillis()),
+                request.containsKey("adaptive") ? Boolean.parseBoolean(request.get("adaptive")) : current.adaptive(),
+                longField(request, "minIntervalMs", current.minIntervalMillis()),
+                longField(request, "maxIntervalMs", current.maxIntervalMillis()));
+            scheduler.setSchedule(stationId, schedule);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+        return ResponseEntity.ok(scheduleBody(stationId));
+    }
+
+    private Map<String, Object> scheduleBody(String stationId) {
+        StationSchedule schedule = scheduler.getSchedule(stationId);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("intervalMs", schedule.intervalMillis());
+        body.put("jitterMs", schedule.jitterMillis());
+        body.put("adaptive", schedule.adaptive());
+        body.put("minIntervalMs", schedule.minIntervalMillis());
+        body.put("maxIntervalMs", schedule.maxIntervalMillis());
+        body.put("currentIntervalMs", scheduler.getCurrentIntervalMillis(stationId));
+        body.put("active", scheduler.isActive(stationId));
+        return body;
+    }
+
+    private static long longField(Map<String, String> request, String field, long defaultValue) {
+        String value = request.get(field);
+        if (value == null) return defaultValue;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Field '" + field + "' must be an integer");
+        }
+    }
+
+    @GetMapping("/{stationId}/stats")
+    public ResponseEntity<?> getStats(@PathVariable String stationId) {
+        WeatherStation station = registry.get(stationId);
+        if (station == null) return unknownStation(stationId);
+        return ResponseEntity.ok(station.getUpdateStats());
+    }
+
+    @GetMapping("/{stationId}/observers")
+    public ResponseEntity<?> getObservers(@PathVariable String stationId) {
+        WeatherStation station = registry.get(stationId);
+        if (station == null) return unknownStation(stationId);
+        return ResponseEntity.ok(ObserverListing.of(station.getObservers()));
+    }
+
+    @PostMapping("/{stationId}/observers")
+    public ResponseEntity<?> subscribeObserver(@PathVariable String stationId, @RequestBody Map<String, String> request) {
+        if (registry.get(stationId) == null) return unknownStation(stationId);
+        String id = request.get("id");
+        String type = request.get("type");
+        if (id == null || type == null) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Missing required fields: id, type"));
+        }
+
+        boolean batchEvents = Boolean.parseBoolean(request.get("batchEvents"));
+        SubscriptionFilter filter;
+        try {
+            filter = SubscriptionRequests.filter(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+        Boolean success;
+        try {
+            success = switch (type.toUpperCase()) {
+                case "PHONE" -> registry.execute(stationId, s -> s.subscribePhone(id, batchEvents, filter));
+                case "WEBAPP" -> registry.execute(stationId, s -> s.subscribeWebApp(id, batchEvents, filter));
+                case "OUTDOOR" -> registry.execute(stationId, s -> s.subscribeOutdoor(id, batchEvents, filter));
+                default -> null;
+            };
+        } catch (UnknownStationException e) {
+            return unknownStation(stationId);
+        }
+        if (success == null) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Invalid type. Use: PHONE, WEBAPP, or OUTDOOR"));
+        }
+        if (!success) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Observer with id '" + id + "' already exists"));
+        }
+        return ResponseEntity.ok(Map.of("message", "Observer subscribed successfully", "id", id, "type", type));
+    }
+
+    @DeleteMapping("/{stationId}/observers/{id}")
+    public ResponseEntity<?> unsubscribeObserver(@PathVariable String stationId, @PathVariable String id) {
+        if (registry.get(stationId) == null) return unknownStation(stationId);
+        boolean removed;
+        try {
+            removed = registry.execute(stationId, s -> s.unsubscribe(id));
+        } catch (UnknownStationException e) {
+            return unknownStation(stationId);
+        }
+        if (!removed) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("message", "Observer unsubscribed successfully", "id", id));
+    }
+
+    @GetMapping("/{stationId}/history")
+    public ResponseEntity<?> history(@PathVariable String stationId,
+                                     @RequestParam(required = false) Instant from,
+                                     @RequestParam(required = false) Instant to,
+                                     @RequestParam(defaultValue = "1000") int limit) {
+        ReadingHistory history = registry.history(stationId);
+        if (history == null) return unknownStation(stationId);
+        Instant start = from == null ? Instant.EPOCH : from;
+        Instant end = to == null ? Instant.now() : to;
+        if (end.isBefore(start) || limit <= 0) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "'to' must not be before 'from' and 'limit' must be positive"));
+        }
+        List<WeatherData> readings = history.range(start, end, limit);
+        return ResponseEntity.ok(Map.of("from", start, "to", end, "count", readings.size(), "readings", readings));
+    }
+
+    private ResponseEntity<?> unknownStation(String stationId) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(Map.of("error", "Unknown station: " + stationId));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.web;
+
+import org.example.model.Metric;
+import org.example.service.SubscriptionFilter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Reads the optional filter fields of a subscribe request: {@code metric} with either
+ * {@code crosses} or {@code minChange}, and {@code minIntervalMs}.
+ */
+final class SubscriptionRequests {
+    private SubscriptionRequests() {
+    }
+
+    static SubscriptionFilter filter(Map<String, String> request) {
+        String metric = request.get("metric");
+        String crosses = request.get("crosses");
+        String minChange = request.get("minChange");
+        Duration minInterval = Duration.ofMillis((long) number(request, "minIntervalMs"));
+        if (crosses != null && minChange != null) {
+            throw new IllegalArgumentException("Use either crosses or minChange, not both");
+        }
+        if (crosses == null && minChange == null) {
+            if (metric != null) throw new IllegalArgumentException("metric requires crosses or minChange");
+            return minInterval.isZero() ? SubscriptionFilter.NONE : SubscriptionFilter.minInterval(minInterval);
+        }
+        if (metric == null) throw new IllegalArgumentException("crosses and minChange require a metric");
+        return crosses != null
+                ? SubscriptionFilter.crossing(Metric.fromKey(metric), number(request, "crosses"), minInterval)
+                : SubscriptionFilter.minChange(Metric.fromKey(metric), number(request, "minChange"), minInterval);
+    }
+
+    private static double number(Map<String, String> request, String field) {
+        String value = request.get(field);
+        if (value == null) return 0;
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Field '" + field + "' must be a number");
+        }
+    }
+}
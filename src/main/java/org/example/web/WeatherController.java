@@ -1,26 +1,71 @@
 package org.example.web;
 
+import org.example.aggregation.WindowedAggregator;
+import org.example.delivery.DeliveryChannel;
+import org.example.delivery.DeliveryChannels;
+import org.example.history.ReadingHistory;
+import org.example.model.Metric;
 import org.example.model.WeatherData;
+import org.example.service.RateLimitedException;
+import org.example.service.StationRegistry;
+import org.example.service.StationSnapshot;
+import org.example.service.SubscriptionFilter;
+import org.example.service.UpdateStats;
 import org.example.service.WeatherStation;
 import org.example.strategy.UpdateStrategy;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/weather")
 public class WeatherController {
     private final WeatherStation station;
+    private final StationRegistry registry;
+    private final WeatherEventStream eventStream;
+    private final ReadingHistory history;
+    private final WindowedAggregator aggregator;
+    private final BatchReadingParser batchParser;
+    private final WeatherJsonEncoder jsonEncoder;
+    private final ChangeWaiters changeWaiters;
+    private final DeliveryChannels deliveryChannels;
     private final Map<String, UpdateStrategy> strategiesByName = new HashMap<>();
+    // Snapshot versions restart at zero on every boot; the epoch keeps a restarted instance from
+    // answering 304 to an ETag minted by its predecessor for different data.
+    private final String etagEpoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
 
-    public WeatherController(WeatherStation station, List<UpdateStrategy> strategies) {
+    public WeatherController(WeatherStation station, StationRegistry registry, WeatherEventStream eventStream,
+                             ReadingHistory history,
+                             WindowedAggregator aggregator, BatchReadingParser batchParser,
+                             WeatherJsonEncoder jsonEncoder, ChangeWaiters changeWaiters,
+                             DeliveryChannels deliveryChannels, List<UpdateStrategy> strategies) {
         this.station = station;
+        this.registry = registry;
+        this.eventStream = eventStream;
+        this.history = history;
+        this.aggregator = aggregator;
+        this.batchParser = batchParser;
+        this.jsonEncoder = jsonEncoder;
+        this.changeWaiters = changeWaiters;
+        this.deliveryChannels = deliveryChannels;
         if (strategies == null || strategies.isEmpty()) {
             throw new IllegalStateException("No UpdateStrategy beans found. Ensure strategy classes are annotated with @Component.");
         }
@@ -35,12 +80,98 @@ public class WeatherController {
     }
 
     @GetMapping("/current")
-    public ResponseEntity<?> current() {
-        WeatherData data = station.getLastData();
-        if (data == null) {
-            return ResponseEntity.ok(Map.of("message", "No weather data available yet. Trigger an update first."));
+    public void current(ServletWebRequest request, HttpServletResponse response) throws IOException {
+        StationSnapshot snapshot = station.getSnapshot();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (request.checkNotModified(etag(snapshot.getVersion()), snapshot.getChangedAtMillis())) return;
+        writeJson(response, jsonEncoder.current(snapshot));
+    }
+
+    @GetMapping(path = "/current", params = "waitForChangeAfter")
+    public DeferredResult<ResponseEntity<byte[]>> awaitCurrent(@RequestParam long waitForChangeAfter) {
+        return changeWaiters.await(station, waitForChangeAfter,
+            () -> {
+                StationSnapshot snapshot = station.getSnapshot();
+                return jsonResponse(snapshot, jsonEncoder.current(snapshot));
+            },
+            () -> notModified(station.getSnapshot()));
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<?> history(@RequestParam(required = false) Instant from,
+                                     @RequestParam(required = false) Instant to,
+                                     @RequestParam(defaultValue = "1000") int limit) {
+        Instant start = from == null ? Instant.EPOCH : from;
+        Instant end = to == null ? Instant.now() : to;
+        if (end.isBefore(start)) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "'to' must not be before 'from'"));
         }
-        return ResponseEntity.ok(data);
+        if (limit <= 0) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "'limit' must be positive"));
+        }
+        List<WeatherData> readings = history.range(start, end, limit);
+        return ResponseEntity.ok(Map.of("from", start, "to", end, "count", readings.size(), "readings", readings));
+    }
+
+    @GetMapping("/aggregates")
+    public ResponseEntity<?> aggregates(@RequestParam(required = false) String window) {
+        String selected = window == null ? aggregator.getWindows().iterator().next() : window;
+        if (!aggregator.hasWindow(selected)) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Unknown window: " + selected, "available", aggregator.getWindows()));
+        }
+        Map<String, Object> sliding = new LinkedHashMap<>();
+        Map<String, Object> tumbling = new LinkedHashMap<>();
+        for (Metric metric : Metric.values()) {
+            sliding.put(metric.getKey(), aggregator.sliding(selected, metric));
+            tumbling.put(metric.getKey(), tumblingResult(selected, metric));
+        }
+        return ResponseEntity.ok(Map.of("window", selected, "sliding", sliding, "tumbling", tumbling,
+            "lateReadings", aggregator.getLateReadings()));
+    }
+
+    @GetMapping("/aggregates/{metric}")
+    public ResponseEntity<?> aggregate(@PathVariable String metric, @RequestParam(required = false) String window) {
+        String selected = window == null ? aggregator.getWindows().iterator().next() : window;
+        if (!aggregator.hasWindow(selected)) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Unknown window: " + selected, "available", aggregator.getWindows()));
+        }
+        Metric parsed;
+        try {
+            parsed = Metric.fromKey(metric);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+        return ResponseEntity.ok(Map.of(
+            "window", selected,
+            "metric", parsed.getKey(),
+            "sliding", aggregator.sliding(selected, parsed),
+            "tumbling", tumblingResult(selected, parsed)));
+    }
+
+    private Map<String, Object> tumblingResult(String window, Metric metric) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("current", aggregator.tumblingCurrent(window, metric));
+        result.put("previous", aggregator.tumblingPrevious(window, metric));
+        return result;
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return eventStream.subscribe(station);
+    }
+
+    @GetMapping("/version")
+    public Map<String, Object> version(@RequestParam(required = false) Long since) {
+        long version = station.getVersion();
+        if (since == null) {
+            return Map.of("version", version);
+        }
+        return Map.of("version", version, "changed", version > since);
     }
 
     @GetMapping("/strategy")
@@ -60,7 +191,10 @@ public class WeatherController {
                 .body(Map.of("error", "Unknown strategy: " + name, "available", strategiesByName.keySet()));
         }
         try {
-            station.setStrategy(strategy);
+            write(s -> {
+                s.setStrategy(strategy);
+                return null;
+            });
             return ResponseEntity.ok(Map.of("message", "Strategy set to " + strategy.getName()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -80,8 +214,11 @@ public class WeatherController {
                 return ResponseEntity.badRequest()
                     .body(Map.of("error", "Cannot trigger update with MANUAL strategy. Use /update/manual endpoint instead."));
             }
-            WeatherData data = station.triggerUpdate(null);
+            WeatherData data = write(s -> s.triggerUpdate(null));
             return ResponseEntity.ok(data);
+        } catch (RateLimitedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", e.getMessage()));
@@ -107,8 +244,45 @@ public class WeatherController {
             }
 
             WeatherData input = new WeatherData(temp, humidity, wind, Instant.now());
-            WeatherData data = station.triggerUpdate(input);
+            WeatherData data = write(s -> s.triggerUpdate(input));
             return ResponseEntity.ok(data);
+        } catch (RateLimitedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping(path = "/update/batch",
+        consumes = {MediaType.APPLICATION_JSON_VALUE, BatchReadingParser.NDJSON, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> batchUpdate(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                         InputStream body) {
+        UpdateStrategy current = station.getCurrentStrategy();
+        if (current == null || !"MANUAL".equalsIgnoreCase(current.getName())) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Current strategy is not MANUAL. Set strategy to MANUAL first."));
+        }
+        try {
+            BatchReadingParser.Result batch = batchParser.parse(contentType, body);
+            if (batch.hasErrors()) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Batch rejected: " + batch.getErrorCount() + " invalid readings",
+                        "details", batch.getErrors()));
+            }
+            if (batch.getReadings().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Batch must contain at least one reading"));
+            }
+            WeatherData latest = write(s -> s.ingestBatch(batch.getReadings()));
+            return ResponseEntity.ok(Map.of("accepted", batch.getReadings().size(), "latest", latest));
+        } catch (RateLimitedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Malformed batch: " + e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", e.getMessage()));
@@ -116,16 +290,42 @@ public class WeatherController {
     }
 
     @GetMapping("/observers")
-    public ResponseEntity<?> getObservers() {
-        List<Map<String, String>> observers = station.getObservers().stream()
-            .map(obs -> {
-                Map<String, String> info = new HashMap<>();
-                info.put("id", obs.getId());
-                info.put("type", obs.getClass().getSimpleName());
-                return info;
-            })
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(Map.of("observers", observers, "count", observers.size()));
+    public void getObservers(ServletWebRequest request, HttpServletResponse response) throws IOException {
+        // Read the version before the listing, so the ETag can never claim a newer state than the body holds.
+        StationSnapshot snapshot = station.getSnapshot();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (request.checkNotModified(etag(snapshot.getVersion()), snapshot.getChangedAtMillis())) return;
+        writeJson(response, jsonEncoder.observers(station.getObserversVersion(), station.getObservers()));
+    }
+
+    @GetMapping(path = "/observers", params = "waitForChangeAfter")
+    public DeferredResult<ResponseEntity<byte[]>> awaitObservers(@RequestParam long waitForChangeAfter) {
+        return changeWaiters.await(station, waitForChangeAfter,
+            () -> {
+                StationSnapshot snapshot = station.getSnapshot();
+                return jsonResponse(snapshot, jsonEncoder.observers(station.getObserversVersion(), station.getObservers()));
+            },
+            () -> notModified(station.getSnapshot()));
+    }
+
+    @GetMapping("/stats")
+    public UpdateStats getStats() {
+        return station.getUpdateStats();
+    }
+
+    @GetMapping("/channels")
+    public ResponseEntity<?> getChannels() {
+        List<Map<String, Object>> channels = new ArrayList<>();
+        for (DeliveryChannel channel : deliveryChannels.getChannels()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", channel.getName());
+            entry.put("queued", channel.getQueued());
+            entry.put("delivered", channel.getDelivered());
+            entry.put("dropped", channel.getDropped());
+            entry.put("batches", channel.getBatches());
+            channels.add(entry);
+        }
+        return ResponseEntity.ok(Map.of("channels", channels));
     }
 
     @PostMapping("/observers")
@@ -138,16 +338,24 @@ public class WeatherController {
                 .body(Map.of("error", "Missing required fields: id, type"));
         }
 
+        boolean batchEvents = Boolean.parseBoolean(request.get("batchEvents"));
+        SubscriptionFilter filter;
+        try {
+            filter = SubscriptionRequests.filter(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
         boolean success;
         switch (type.toUpperCase()) {
             case "PHONE":
-                success = station.subscribePhone(id);
+                success = write(s -> s.subscribePhone(id, batchEvents, filter));
                 break;
             case "WEBAPP":
-                success = station.subscribeWebApp(id);
+                success = write(s -> s.subscribeWebApp(id, batchEvents, filter));
                 break;
             case "OUTDOOR":
-                success = station.subscribeOutdoor(id);
+                success = write(s -> s.subscribeOutdoor(id, batchEvents, filter));
                 break;
             default:
                 return ResponseEntity.badRequest()
@@ -164,13 +372,45 @@ public class WeatherController {
 
     @DeleteMapping("/observers/{id}")
     public ResponseEntity<?> unsubscribeObserver(@PathVariable String id) {
-        boolean removed = station.unsubscribe(id);
+        boolean removed = write(s -> s.unsubscribe(id));
         if (!removed) {
             return ResponseEntity.notFound()
                 .build();
         }
         return ResponseEntity.ok(Map.of("message", "Observer unsubscribed successfully", "id", id));
     }
-}
 
+    /**
+     * State changes go through the station's shard writer, like every other station's.
+     */
+    private <T> T write(Function<WeatherStation, T> action) {
+        return registry.execute(station.getId(), action);
+    }
+
+    private String etag(long version) {
+        return "\"" + etagEpoch + "-" + version + "\"";
+    }
+
+    private ResponseEntity<byte[]> jsonResponse(StationSnapshot snapshot, byte[] body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag(snapshot.getVersion()))
+            .lastModified(snapshot.getChangedAtMillis())
+            .cacheControl(CacheControl.noCache())
+            .body(body);
+    }
+
+    private ResponseEntity<byte[]> notModified(StationSnapshot snapshot) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag(snapshot.getVersion()))
+            .lastModified(snapshot.getChangedAtMillis())
+            .cacheControl(CacheControl.noCache())
+            .build();
+    }
 
+    private static void writeJson(HttpServletResponse response, byte[] body) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.web;
+
+import org.example.service.StationListener;
+import org.example.service.StationSnapshot;
+import org.example.service.WeatherStation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes committed readings and observer-set changes to dashboards over Server-Sent Events.
+ *
+ * Each client holds at most one pending event per kind. A newer event replaces one the client
+ * has not received yet, so a slow connection skips stale readings instead of building up a
+ * queue, and sends never run on the station's committing thread.
+ */
+@Component
+public class WeatherEventStream implements StationListener {
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender;
+    private final long emitterTimeoutMillis;
+    private final WeatherJsonEncoder jsonEncoder;
+
+    public WeatherEventStream(WeatherJsonEncoder jsonEncoder,
+                              @Value("${weather.stream.sender-threads:2}") int senderThreads,
+                              @Value("${weather.stream.timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.jsonEncoder = jsonEncoder;
+        AtomicInteger counter = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    public SseEmitter subscribe(WeatherStation station) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Client client = new Client(emitter);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        clients.add(client);
+
+        StationSnapshot snapshot = station.getSnapshot();
+        if (snapshot.getData() != null) client.offer(client.reading, jsonEncoder.current(snapshot));
+        client.offer(client.observers, jsonEncoder.observers(station.getObserversVersion(), station.getObservers()));
+        return emitter;
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    @Override
+    public void onReading(WeatherStation station, StationSnapshot snapshot) {
+        if (clients.isEmpty()) return;
+        byte[] data = jsonEncoder.current(snapshot);
+        for (Client client : clients) {
+            client.offer(client.reading, data);
+        }
+    }
+
+    @Override
+    public void onObserversChanged(WeatherStation station) {
+        if (clients.isEmpty()) return;
+        byte[] listing = jsonEncoder.observers(station.getObserversVersion(), station.getObservers());
+        for (Client client : clients) {
+            client.offer(client.observers, listing);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${weather.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Client client : clients) {
+            client.offer(client.heartbeat, Boolean.TRUE);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.forEach(c -> c.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    private final class Client {
+        private final SseEmitter emitter;
+        private final AtomicReference<Object> reading = new AtomicReference<>();
+        private final AtomicReference<Object> observers = new AtomicReference<>();
+        private final AtomicReference<Object> heartbeat = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(AtomicReference<Object> slot, Object payload) {
+            slot.set(payload);
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                try {
+                    Object data = reading.getAndSet(null);
+                    if (data != null) emitter.send(SseEmitter.event().name("reading").data(data, MediaType.APPLICATION_JSON));
+                    Object listing = observers.getAndSet(null);
+                    if (listing != null) emitter.send(SseEmitter.event().name("observers").data(listing, MediaType.APPLICATION_JSON));
+                    if (heartbeat.getAndSet(null) != null) emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    clients.remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    scheduled.set(false);
+                }
+            } while (hasPending() && scheduled.compareAndSet(false, true));
+        }
+
+        private boolean hasPending() {
+            return reading.get() != null || observers.get() != null || heartbeat.get() != null;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.web;
+
+import org.example.model.BatchedWeatherData;
+import org.example.model.Metric;
+import org.example.model.WeatherData;
+import org.example.observer.WeatherObserver;
+import org.example.service.StationSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hand-rolled JSON encoding for the hot read endpoints.
+ *
+ * Field names and fixed fragments are pre-encoded once. The encoded body of the current reading
+ * is cached together with the reading it was built from, and that of the observer listing with
+ * the observer-set version, and served as-is until they change, so repeated polling neither
+ * reflects over {@link WeatherData} nor allocates intermediate maps. The output matches what
+ * Jackson produces for the same objects, including the window summary of a
+ * {@link BatchedWeatherData}.
+ */
+@Component
+public class WeatherJsonEncoder {
+    static final byte[] NO_DATA_BODY =
+            ascii("{\"message\":\"No weather data available yet. Trigger an update first.\"}");
+
+    private static final byte[] TEMPERATURE = ascii("{\"temperatureCelsius\":");
+    private static final byte[] HUMIDITY = ascii(",\"humidityPercent\":");
+    private static final byte[] WIND = ascii(",\"windKph\":");
+    private static final byte[] OBSERVED_AT = ascii(",\"observedAt\":\"");
+    private static final byte[] WINDOW_START = ascii("\",\"windowStart\":\"");
+    private static final byte[] SAMPLE_COUNT = ascii("\",\"sampleCount\":");
+    private static final byte[] STATISTICS = ascii(",\"statistics\":{");
+    private static final byte[] STATISTIC_MIN = ascii("\":{\"min\":");
+    private static final byte[] STATISTIC_MEAN = ascii(",\"mean\":");
+    private static final byte[] STATISTIC_MAX = ascii(",\"max\":");
+    private static final byte[] STATISTIC_LAST = ascii(",\"last\":");
+    private static final byte[] READING_END = ascii("\"}");
+    private static final byte[] OBSERVERS_START = ascii("{\"observers\":[");
+    private static final byte[] OBSERVER_ID = ascii("{\"id\":\"");
+    private static final byte[] OBSERVER_TYPE = ascii("\",\"type\":\"");
+    private static final byte[] OBSERVER_END = ascii("\"}");
+    private static final byte[] COUNT = ascii("],\"count\":");
+    private static final byte[] OBJECT_END = ascii("}");
+
+    private final AtomicReference<CachedReading> currentBody = new AtomicReference<>(new CachedReading(null, null));
+    private final AtomicReference<Cached> observersBody = new AtomicReference<>(new Cached(-1, null));
+
+    /**
+     * Encoded body for {@code GET /current} at the given snapshot, built at most once per reading.
+     * Keyed on the reading itself rather than the snapshot version, which also moves when
+     * observers come and go.
+     */
+    public byte[] current(StationSnapshot snapshot) {
+        WeatherData data = snapshot.getData();
+        if (data == null) return NO_DATA_BODY;
+        CachedReading cached = currentBody.get();
+        if (cached.data == data) return cached.body;
+        byte[] body = encode(data);
+        currentBody.compareAndSet(cached, new CachedReading(data, body));
+        return body;
+    }
+
+    /**
+     * Encoded body for {@code GET /observers}, built at most once per observer-set version.
+     */
+    public byte[] observers(long version, Collection<WeatherObserver> observers) {
+        Cached cached = observersBody.get();
+        if (cached.version == version) return cached.body;
+        byte[] body = encode(observers);
+        observersBody.compareAndSet(cached, new Cached(version, body));
+        return body;
+    }
+
+    public static byte[] encode(WeatherData data) {
+        Buffer out = new Buffer(128);
+        out.write(TEMPERATURE);
+        out.writeAscii(Double.toString(data.getTemperatureCelsius()));
+        out.write(HUMIDITY);
+        out.writeAscii(Double.toString(data.getHumidityPercent()));
+        out.write(WIND);
+        out.writeAscii(Double.toString(data.getWindKph()));
+        out.write(OBSERVED_AT);
+        out.writeAscii(data.getObservedAt().toString());
+        if (data instanceof BatchedWeatherData batched) {
+            writeWindow(out, batched);
+        } else {
+            out.write(READING_END);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeWindow(Buffer out, BatchedWeatherData batched) {
+        out.write(WINDOW_START);
+        out.writeAscii(batched.getWindowStart().toString());
+        out.write(SAMPLE_COUNT);
+        out.writeAscii(Integer.toString(batched.getSampleCount()));
+        out.write(STATISTICS);
+        for (Metric metric : Metric.values()) {
+            if (metric.ordinal() > 0) out.write((byte) ',');
+            out.write((byte) '"');
+            out.writeString(metric.getKey());
+            out.write(STATISTIC_MIN);
+            out.writeAscii(Double.toString(batched.getMin(metric)));
+            out.write(STATISTIC_MEAN);
+            out.writeAscii(Double.toString(metric.valueOf(batched)));
+            out.write(STATISTIC_MAX);
+            out.writeAscii(Double.toString(batched.getMax(metric)));
+            out.write(STATISTIC_LAST);
+            out.writeAscii(Double.toString(batched.getLast(metric)));
+            out.write(OBJECT_END);
+        }
+        out.write(OBJECT_END);
+        out.write(OBJECT_END);
+    }
+
+    public static byte[] encode(Collection<WeatherObserver> observers) {
+        Buffer out = new Buffer(32 + observers.size() * 48);
+        out.write(OBSERVERS_START);
+        int count = 0;
+        for (WeatherObserver observer : observers) {
+            if (count++ > 0) out.write((byte) ',');
+            out.write(OBSERVER_ID);
+            out.writeString(observer.getId());
+            out.write(OBSERVER_TYPE);
+            out.writeString(observer.getClass().getSimpleName());
+            out.write(OBSERVER_END);
+        }
+        out.write(COUNT);
+        out.writeAscii(Integer.toString(count));
+        out.write(OBJECT_END);
+        return out.toByteArray();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record Cached(long version, byte[] body) {
+    }
+
+    private record CachedReading(WeatherData data, byte[] body) {
+    }
+
+    private static final class Buffer {
+        private static final byte[] HEX = ascii("0123456789abcdef");
+        private byte[] bytes;
+        private int size;
+
+        private Buffer(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        private void write(byte value) {
+            ensure(1);
+            bytes[size++] = value;
+        }
+
+        private void write(byte[] fragment) {
+            ensure(fragment.length);
+            System.arraycopy(fragment, 0, bytes, size, fragment.length);
+            size += fragment.length;
+        }
+
+        private void writeAscii(String value) {
+            ensure(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                bytes[size++] = (byte) value.charAt(i);
+            }
+        }
+
+        /**
+         * Writes a string as escaped JSON string content (without the surrounding quotes).
+         */
+        private void writeString(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    write((byte) '\\');
+                    write((byte) c);
+                } else if (c < 0x20) {
+                    ensure(6);
+                    bytes[size++] = '\\';
+                    bytes[size++] = 'u';
+                    bytes[size++] = '0';
+                    bytes[size++] = '0';
+                    bytes[size++] = HEX[c >> 4];
+                    bytes[size++] = HEX[c & 0xF];
+                } else if (c < 0x80) {
+                    write((byte) c);
+                } else {
+                    int end = i + 1;
+                    while (end < value.length() && value.charAt(end) >= 0x80) end++;
+                    write(value.substring(i, end).getBytes(StandardCharsets.UTF_8));
+                    i = end - 1;
+                }
+            }
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.wire;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Framing of the binary reading stream served by {@link WireServer}. Every frame is a big-endian
+ * int length (of the bytes that follow it) and a one-byte type:
+ *
+ * <pre>
+ * client to server
+ *   SUBSCRIBE (1)  long fromSequence (-1 = live tail only), short station ID length, UTF-8 station ID
+ * server to client
+ *   STARTED (2)    long firstSequence (the first one that will be sent), long nextSequence (the live tail)
+ *   READINGS (3)   int count, then count records of 40 bytes: long sequence, long observed-at epoch
+ *                  millis, double temperature °C, double humidity %, double wind kph
+ *   ERROR (4)      UTF-8 message; the server closes the connection after it
+ * </pre>
+ *
+ * Sequences are positions in the station's reading history. A consumer that falls further
+ * behind than the history retains sees a jump in sequence numbers and continues from the oldest
+ * retained reading.
+ */
+public final class WireProtocol {
+    public static final byte SUBSCRIBE = 1;
+    public static final byte STARTED = 2;
+    public static final byte READINGS = 3;
+    public static final byte ERROR = 4;
+
+    public static final long LIVE = -1;
+    public static final int RECORD_BYTES = 40;
+    /**
+     * Length prefix plus type.
+     */
+    public static final int HEADER_BYTES = 5;
+    public static final int MAX_REQUEST_BYTES = 1024;
+    static final int SUBSCRIBE_FIXED_BYTES = 1 + 8 + 2;
+
+    private WireProtocol() {
+    }
+
+    public static void writeSubscribe(ByteBuffer out, String stationId, long fromSequence) {
+        byte[] id = stationId.getBytes(StandardCharsets.UTF_8);
+        out.putInt(SUBSCRIBE_FIXED_BYTES + id.length);
+        out.put(SUBSCRIBE);
+        out.putLong(fromSequence);
+        out.putShort((short) id.length);
+        out.put(id);
+    }
+
+    static void writeStarted(ByteBuffer out, long firstSequence, long nextSequence) {
+        out.putInt(1 + 8 + 8);
+        out.put(STARTED);
+        out.putLong(firstSequence);
+        out.putLong(nextSequence);
+    }
+
+    static void writeError(ByteBuffer out, String message) {
+        byte[] text = message.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(text.length, out.remaining() - HEADER_BYTES);
+        out.putInt(1 + length);
+        out.put(ERROR);
+        out.put(text, 0, length);
+    }
+
+    static void writeRecord(ByteBuffer out, long sequence, long epochMillis, double temperatureCelsius,
+                            double humidityPercent, double windKph) {
+        out.putLong(sequence);
+        out.putLong(epochMillis);
+        out.putDouble(temperatureCelsius);
+        out.putDouble(humidityPercent);
+        out.putDouble(windKph);
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.wire;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.metrics.WeatherMetrics;
+import org.example.service.StationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Binary stream of readings over plain TCP for high-frequency consumers, next to the REST API.
+ *
+ * A subscriber names a station and a starting sequence ({@link WireProtocol}); it is sent the
+ * retained history from there and then follows the live tail. One daemon thread runs every
+ * connection on a selector and checks the histories for new readings whenever it wakes up, at
+ * least every {@code poll-ms}. Readings go from the history ring straight into fixed-width
+ * records, with no JSON encoding and no per-reading objects.
+ */
+@Component
+public class WireServer {
+    private static final Logger log = LoggerFactory.getLogger(WireServer.class);
+    private static final int MAX_FRAMES_PER_PUMP = 16;
+
+    private final StationRegistry registry;
+    private final boolean enabled;
+    private final String host;
+    private final int port;
+    private final int maxConnections;
+    private final int frameRecords;
+    private final long pollMillis;
+    private final List<WireSession> sessions = new ArrayList<>();
+    private volatile int connections;
+    private volatile InetSocketAddress boundAddress;
+    private volatile boolean running;
+    private ServerSocketChannel server;
+    private Selector selector;
+    private Thread worker;
+
+    public WireServer(StationRegistry registry, WeatherMetrics metrics,
+                      @Value("${weather.wire.enabled:true}") boolean enabled,
+                      @Value("${weather.wire.host:127.0.0.1}") String host,
+                      @Value("${weather.wire.port:9877}") int port,
+                      @Value("${weather.wire.max-connections:64}") int maxConnections,
+                      @Value("${weather.wire.frame-records:512}") int frameRecords,
+                      @Value("${weather.wire.poll-ms:5}") long pollMillis) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.host = host;
+        this.port = port;
+        this.maxConnections = maxConnections;
+        this.frameRecords = Math.max(1, frameRecords);
+        this.pollMillis = Math.max(1, pollMillis);
+        metrics.gauge("weather.wire.connections", "Open binary stream connections", this, WireServer::getConnectionCount);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) return;
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.configureBlocking(false);
+        server.bind(new InetSocketAddress(host, port));
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        boundAddress = (InetSocketAddress) server.getLocalAddress();
+        running = true;
+        worker = new Thread(this::run, "wire-server");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("📡 Streaming readings on tcp://{}:{}", boundAddress.getHostString(), boundAddress.getPort());
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                selector.select(pollMillis);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        WireSession session = (WireSession) key.attachment();
+                        try {
+                            if (key.isReadable()) session.onReadable();
+                            if (key.isValid() && key.isWritable()) session.flush();
+                        } catch (IOException e) {
+                            session.close();
+                        }
+                    }
+                }
+                pumpAll();
+            } catch (IOException e) {
+                if (running) log.warn("❌ Wire server loop failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            if (sessions.size() >= maxConnections) {
+                log.warn("Rejecting stream subscriber {}: {} connections open", channel.getRemoteAddress(), maxConnections);
+                channel.close();
+                continue;
+            }
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            WireSession session = new WireSession(channel, key, registry::history, frameRecords);
+            key.attach(session);
+            sessions.add(session);
+            connections = sessions.size();
+        }
+    }
+
+    private void pumpAll() {
+        for (int i = sessions.size() - 1; i >= 0; i--) {
+            WireSession session = sessions.get(i);
+            try {
+                session.pump(MAX_FRAMES_PER_PUMP);
+            } catch (IOException e) {
+                session.close();
+            }
+            if (!session.isOpen()) {
+                sessions.remove(i);
+                log.debug("Stream subscriber for station {} left after {} readings",
+                        session.getStationId(), session.getSent());
+            }
+        }
+        connections = sessions.size();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Address actually bound, which differs from the configured one when port 0 is used; null when disabled.
+     */
+    public InetSocketAddress getBoundAddress() {
+        return boundAddress;
+    }
+
+    public int getConnectionCount() {
+        return connections;
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        running = false;
+        if (selector != null) selector.wakeup();
+        if (worker != null) {
+            try {
+                worker.join(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        sessions.forEach(WireSession::close);
+        if (server != null) server.close();
+        if (selector != null) selector.close();
+    }
+}
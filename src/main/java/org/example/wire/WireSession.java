@@ -0,0 +1,168 @@
+package org.example.wire;
+
+import org.example.history.ReadingHistory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * One subscriber connection, only ever touched by the server's selector thread.
+ *
+ * Readings are copied from the history straight into a preallocated direct buffer one frame at
+ * a time; the next frame is only built once the previous one has been fully written, so a slow
+ * consumer is paced by its socket instead of queueing data on the server.
+ */
+final class WireSession implements ReadingHistory.ReadingVisitor {
+    private static final int READINGS_PREFIX_BYTES = WireProtocol.HEADER_BYTES + 4;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final Function<String, ReadingHistory> histories;
+    private final int frameRecords;
+    private final ByteBuffer in = ByteBuffer.allocate(4 + WireProtocol.MAX_REQUEST_BYTES);
+    private final ByteBuffer out;
+    private ReadingHistory history;
+    private String stationId;
+    private long nextSequence;
+    private int frameCount;
+    private boolean closing;
+    private long sent;
+
+    WireSession(SocketChannel channel, SelectionKey key, Function<String, ReadingHistory> histories, int frameRecords) {
+        this.channel = channel;
+        this.key = key;
+        this.histories = histories;
+        this.frameRecords = frameRecords;
+        this.out = ByteBuffer.allocateDirect(READINGS_PREFIX_BYTES + frameRecords * WireProtocol.RECORD_BYTES);
+        out.limit(0);
+    }
+
+    void onReadable() throws IOException {
+        if (channel.read(in) < 0) throw new EOFException("Subscriber disconnected");
+        in.flip();
+        while (!closing && in.remaining() >= 4) {
+            int length = in.getInt(in.position());
+            if (length < WireProtocol.SUBSCRIBE_FIXED_BYTES || length > WireProtocol.MAX_REQUEST_BYTES) {
+                fail("Invalid frame length " + length);
+                break;
+            }
+            if (in.remaining() < 4 + length) break;
+            in.getInt();
+            byte type = in.get();
+            long fromSequence = in.getLong();
+            int idLength = in.getShort();
+            if (type != WireProtocol.SUBSCRIBE || idLength != length - WireProtocol.SUBSCRIBE_FIXED_BYTES) {
+                fail("Expected a SUBSCRIBE frame");
+                break;
+            }
+            byte[] id = new byte[idLength];
+            in.get(id);
+            subscribe(new String(id, StandardCharsets.UTF_8), fromSequence);
+        }
+        in.compact();
+    }
+
+    private void subscribe(String id, long fromSequence) throws IOException {
+        if (history != null) {
+            fail("Already subscribed to station " + stationId);
+            return;
+        }
+        ReadingHistory found = histories.apply(id);
+        if (found == null) {
+            fail("Unknown station: " + id);
+            return;
+        }
+        history = found;
+        stationId = id;
+        long next = history.getNextSequence();
+        nextSequence = fromSequence < 0 ? next : Math.max(fromSequence, history.getFirstSequence());
+        out.clear();
+        WireProtocol.writeStarted(out, nextSequence, next);
+        out.flip();
+        flush();
+    }
+
+    /**
+     * Sends whatever is pending and then up to {@code maxFrames} new frames of readings.
+     */
+    void pump(int maxFrames) throws IOException {
+        if (history == null || closing) return;
+        for (int i = 0; i < maxFrames; i++) {
+            if (out.hasRemaining() && !flush()) return;
+            out.clear();
+            out.position(READINGS_PREFIX_BYTES);
+            frameCount = 0;
+            nextSequence = history.read(nextSequence, frameRecords, this);
+            if (frameCount == 0) {
+                out.limit(0);
+                return;
+            }
+            out.putInt(0, 1 + 4 + frameCount * WireProtocol.RECORD_BYTES);
+            out.put(4, WireProtocol.READINGS);
+            out.putInt(WireProtocol.HEADER_BYTES, frameCount);
+            out.flip();
+            sent += frameCount;
+            if (!flush() || frameCount < frameRecords) return;
+        }
+    }
+
+    @Override
+    public void visit(long sequence, long epochMillis, double temperatureCelsius, double humidityPercent,
+                      double windKph) {
+        WireProtocol.writeRecord(out, sequence, epochMillis, temperatureCelsius, humidityPercent, windKph);
+        frameCount++;
+    }
+
+    /**
+     * Writes as much of the pending frame as the socket takes. Returns true once nothing is pending.
+     */
+    boolean flush() throws IOException {
+        channel.write(out);
+        if (out.hasRemaining()) {
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            return false;
+        }
+        key.interestOps(SelectionKey.OP_READ);
+        if (closing) close();
+        return true;
+    }
+
+    private void fail(String message) throws IOException {
+        closing = true;
+        // A partly written frame cannot be interrupted; just drop the connection then.
+        if (out.hasRemaining()) {
+            close();
+            return;
+        }
+        out.clear();
+        WireProtocol.writeError(out, message);
+        out.flip();
+        flush();
+    }
+
+    boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    String getStationId() {
+        return stationId;
+    }
+
+    long getSent() {
+        return sent;
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already gone.
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.aggregation;
+
+import org.example.model.Metric;
+import org.example.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WindowedAggregationTest {
+    private static final long MINUTE = 60_000;
+
+    @Test
+    void slidingWindowExpiresOldSamplesAndTracksMinMax() {
+        SlidingWindow window = new SlidingWindow(MINUTE, 1_000, Metric.TEMPERATURE, 0.1);
+        window.add(0, 10);
+        window.add(20_000, 30);
+        window.add(40_000, 20);
+
+        AggregateResult all = window.result(50_000);
+        assertThat(all.getCount()).isEqualTo(3);
+        assertThat(all.getAvg()).isEqualTo(20.0);
+        assertThat(all.getMin()).isEqualTo(10.0);
+        assertThat(all.getMax()).isEqualTo(30.0);
+
+        AggregateResult later = window.result(90_000);
+        assertThat(later.getCount()).isEqualTo(1);
+        assertThat(later.getMin()).isEqualTo(20.0);
+        assertThat(later.getMax()).isEqualTo(20.0);
+        assertThat(window.result(200_000).getCount()).isZero();
+    }
+
+    @Test
+    void slidingWindowClampsOutOfOrderSamplesAndDropsExpiredOnes() {
+        SlidingWindow window = new SlidingWindow(MINUTE, 1_000, Metric.TEMPERATURE, 0.1);
+        window.add(100_000, 10);
+
+        assertThat(window.add(70_000, 20)).isTrue();
+        assertThat(window.add(30_000, 30)).isFalse();
+        // The late sample was placed at the newest time, so it expires with it.
+        assertThat(window.result(150_000).getCount()).isEqualTo(2);
+        assertThat(window.result(170_000).getCount()).isZero();
+    }
+
+    @Test
+    void slidingWindowReportsTheShortenedSpanWhenFull() {
+        SlidingWindow window = new SlidingWindow(MINUTE, 3, Metric.TEMPERATURE, 0.1);
+        for (int i = 0; i < 5; i++) window.add(i * 1_000L, i);
+
+        AggregateResult result = window.result(5_000);
+        assertThat(result.getCount()).isEqualTo(3);
+        assertThat(result.getAvg()).isEqualTo(3.0);
+        assertThat(result.getWindowStart()).isEqualTo(Instant.ofEpochMilli(1_000));
+    }
+
+    @Test
+    void slidingWindowQuantilesFollowTheSamples() {
+        SlidingWindow window = new SlidingWindow(MINUTE, 1_000, Metric.HUMIDITY, 0.1);
+        for (int i = 1; i <= 100; i++) window.add(i, i);
+
+        AggregateResult result = window.result(100);
+        assertThat(result.getP50()).isCloseTo(50.0, within(1.0));
+        assertThat(result.getP95()).isCloseTo(95.0, within(1.0));
+        assertThat(result.getP99()).isCloseTo(99.0, within(1.0));
+    }
+
+    @Test
+    void tumblingWindowClosesAlignedWindowsAndDropsLateReadings() {
+        TumblingWindow window = new TumblingWindow(MINUTE, Metric.TEMPERATURE, 0.1);
+        window.add(5_000, 10);
+        window.add(50_000, 20);
+        window.add(65_000, 40);
+
+        AggregateResult previous = window.previous(70_000);
+        assertThat(previous.getWindowStart()).isEqualTo(Instant.EPOCH);
+        assertThat(previous.getCount()).isEqualTo(2);
+        assertThat(previous.getAvg()).isEqualTo(15.0);
+        assertThat(window.current(70_000).getCount()).isEqualTo(1);
+
+        assertThat(window.add(55_000, 99)).isFalse();
+        assertThat(window.current(70_000).getMax()).isEqualTo(40.0);
+    }
+
+    @Test
+    void tumblingWindowReportsAnEmptyPreviousWindowAfterAGap() {
+        TumblingWindow window = new TumblingWindow(MINUTE, Metric.TEMPERATURE, 0.1);
+        window.add(5_000, 10);
+
+        AggregateResult previous = window.previous(200_000);
+        assertThat(previous.getWindowStart()).isEqualTo(Instant.ofEpochMilli(2 * MINUTE));
+        assertThat(previous.getCount()).isZero();
+        assertThat(previous.getAvg()).isNull();
+    }
+
+    @Test
+    void aggregatorCountsReadingsTooOldForAWindowAsLate() {
+        WindowedAggregator aggregator = new WindowedAggregator(new String[]{"1m", "1h"}, 0.1, 1_000);
+        Instant now = Instant.now();
+        aggregator.add(new WeatherData(20, 50, 10, now));
+        aggregator.add(new WeatherData(25, 50, 10, now.minusSeconds(600)));
+
+        assertThat(aggregator.getLateReadings()).isEqualTo(1);
+        assertThat(aggregator.sliding("1m", Metric.TEMPERATURE).getCount()).isEqualTo(1);
+        assertThat(aggregator.sliding("1h", Metric.TEMPERATURE).getCount()).isEqualTo(2);
+    }
+}
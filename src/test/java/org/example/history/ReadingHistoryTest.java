@@ -0,0 +1,117 @@
+package org.example.history;
+
+import org.example.model.Metric;
+import org.example.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadingHistoryTest {
+
+    @Test
+    void keepsTheNewestReadingsWhenFull() {
+        ReadingHistory history = new ReadingHistory(5, Duration.ZERO);
+        for (int i = 0; i < 12; i++) history.append(i, i, 50, 10);
+
+        assertThat(history.size()).isEqualTo(5);
+        assertThat(history.getFirstSequence()).isEqualTo(7);
+        assertThat(history.getNextSequence()).isEqualTo(12);
+        assertThat(temperatures(history.range(Instant.EPOCH, Instant.ofEpochMilli(100), 100)))
+                .containsExactly(7.0, 8.0, 9.0, 10.0, 11.0);
+    }
+
+    @Test
+    void rangeReturnsTheMostRecentMatchesOldestFirst() {
+        ReadingHistory history = new ReadingHistory(100, Duration.ZERO);
+        for (int i = 0; i < 20; i++) history.append(i * 1000L, i, 50, 10);
+
+        List<WeatherData> readings = history.range(Instant.ofEpochMilli(5_000), Instant.ofEpochMilli(15_000), 3);
+        assertThat(temperatures(readings)).containsExactly(13.0, 14.0, 15.0);
+        assertThat(readings.get(0).getObservedAtMillis()).isEqualTo(13_000);
+    }
+
+    @Test
+    void evictsReadingsOlderThanTheMaximumAge() {
+        ReadingHistory history = new ReadingHistory(100, Duration.ofSeconds(10));
+        for (int i = 0; i <= 30; i++) history.append(i * 1000L, i, 50, 10);
+
+        assertThat(history.size()).isEqualTo(11);
+        assertThat(history.getFirstSequence()).isEqualTo(20);
+    }
+
+    @Test
+    void readResumesFromASequenceAndSkipsEvictedOnes() {
+        ReadingHistory history = new ReadingHistory(4, Duration.ZERO);
+        for (int i = 0; i < 3; i++) history.append(i, i, 50, 10);
+        List<Long> sequences = new ArrayList<>();
+
+        long next = history.read(0, 2, (seq, millis, t, h, w) -> sequences.add(seq));
+        assertThat(next).isEqualTo(2);
+        for (int i = 3; i < 8; i++) history.append(i, i, 50, 10);
+        next = history.read(next, 100, (seq, millis, t, h, w) -> sequences.add(seq));
+
+        assertThat(next).isEqualTo(8);
+        assertThat(sequences).containsExactly(0L, 1L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void chunkScansAgreeWithABruteForceScan() {
+        int capacity = ReadingHistory.CHUNK_SIZE * 3 + 100;
+        ReadingHistory history = new ReadingHistory(capacity, Duration.ZERO);
+        // Wrap part of the way around so one chunk is being overwritten.
+        int readings = capacity + ReadingHistory.CHUNK_SIZE / 2;
+        for (int i = 0; i < readings; i++) history.append(i, (i * 37) % 100 - 50, 50, 10);
+
+        long from = 2_000;
+        long to = readings - 1_000;
+        double above = -20;
+        double below = 30;
+        MetricAggregate aggregate = new MetricAggregate();
+        for (int chunk = 0; chunk < history.getChunkCount(); chunk++) {
+            history.scanChunk(chunk, Long.MAX_VALUE, Metric.TEMPERATURE, from, to, above, below, aggregate);
+        }
+
+        long count = 0;
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = readings - capacity; i < readings; i++) {
+            double v = (i * 37) % 100 - 50;
+            if (i >= from && i <= to && v > above && v < below) {
+                count++;
+                sum += v;
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+            }
+        }
+        assertThat(aggregate.getCount()).isEqualTo(count);
+        assertThat(aggregate.getSum()).isEqualTo(sum);
+        assertThat(aggregate.getMin()).isEqualTo(min);
+        assertThat(aggregate.getMax()).isEqualTo(max);
+    }
+
+    @Test
+    void wholeChunksInsideTheFiltersAreAnsweredFromTheirSummary() {
+        ReadingHistory history = new ReadingHistory(ReadingHistory.CHUNK_SIZE * 2, Duration.ZERO);
+        for (int i = 0; i < ReadingHistory.CHUNK_SIZE * 2; i++) history.append(i, 20, 50, 10);
+
+        MetricAggregate aggregate = new MetricAggregate();
+        ReadingHistory.ChunkScan scan = history.scanChunk(0, Long.MAX_VALUE, Metric.TEMPERATURE, 0, Long.MAX_VALUE,
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, aggregate);
+
+        assertThat(scan).isEqualTo(ReadingHistory.ChunkScan.SUMMARIZED);
+        assertThat(aggregate.getCount()).isEqualTo(ReadingHistory.CHUNK_SIZE);
+        assertThat(aggregate.getScanned()).isZero();
+        assertThat(history.scanChunk(1, Long.MAX_VALUE, Metric.TEMPERATURE, 0, Long.MAX_VALUE, 25,
+                Double.POSITIVE_INFINITY, new MetricAggregate())).isEqualTo(ReadingHistory.ChunkScan.SKIPPED);
+    }
+
+    private static List<Double> temperatures(List<WeatherData> readings) {
+        return readings.stream().map(WeatherData::getTemperatureCelsius).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.load;
+
+import org.example.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadGeneratorTest {
+    private static final long ORIGIN = 1_704_067_200_000L; // 2024-01-01T00:00:00Z
+
+    @Test
+    void sameSeedYieldsSameReadings() {
+        LoadProfile profile = profile(42);
+        assertThat(readings(profile, 5_000)).isEqualTo(readings(profile, 5_000));
+    }
+
+    @Test
+    void differentSeedsYieldDifferentReadings() {
+        assertThat(readings(profile(42), 100)).isNotEqualTo(readings(profile(43), 100));
+    }
+
+    @Test
+    void simulatedTimeFollowsReadingCountFromOrigin() {
+        LoadProfile profile = profile(42);
+        assertThat(LoadGenerator.simulatedMillis(profile, 0)).isEqualTo(ORIGIN);
+        // 10 readings/s at 3600x: each reading advances simulated time by six minutes.
+        assertThat(LoadGenerator.simulatedMillis(profile, 10)).isEqualTo(ORIGIN + 3_600_000);
+        assertThat(LoadGenerator.simulatedMillis(profile, 1)).isEqualTo(ORIGIN + 360_000);
+    }
+
+    @Test
+    void temperaturePeaksInTheAfternoon() {
+        DiurnalModel model = new DiurnalModel(7);
+        double night = 0;
+        double afternoon = 0;
+        for (int day = 0; day < 20; day++) {
+            long midnight = ORIGIN + day * 86_400_000L;
+            night += model.next(midnight + 3 * 3_600_000L).getTemperatureCelsius();
+            afternoon += model.next(midnight + 15 * 3_600_000L).getTemperatureCelsius();
+        }
+        assertThat(afternoon).isGreaterThan(night);
+    }
+
+    private static List<String> readings(LoadProfile profile, int count) {
+        DiurnalModel[] models = new DiurnalModel[profile.stations()];
+        for (int i = 0; i < models.length; i++) models[i] = LoadGenerator.model(profile, i);
+        List<String> readings = new ArrayList<>(count);
+        for (int emitted = 0; emitted < count; emitted++) {
+            WeatherData data = models[emitted % models.length].next(LoadGenerator.simulatedMillis(profile, emitted));
+            readings.add(data.getTemperatureCelsius() + "/" + data.getHumidityPercent() + "/"
+                    + data.getWindKph() + "@" + data.getObservedAtMillis());
+        }
+        return readings;
+    }
+
+    private static LoadProfile profile(long seed) {
+        return new LoadProfile(seed, 8, 10, 1, 3600, 0, 1, ORIGIN);
+    }
+}
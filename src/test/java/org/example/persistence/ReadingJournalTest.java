@@ -0,0 +1,121 @@
+package org.example.persistence;
+
+import org.example.history.ReadingHistory;
+import org.example.model.WeatherData;
+import org.example.service.WeatherStation;
+import org.example.strategy.ManualInputStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadingJournalTest {
+    private static final int SEGMENT_RECORDS = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysReadingsAcrossSegmentsAfterReopening() throws IOException {
+        ReadingJournal journal = open();
+        for (int i = 1; i <= 10; i++) journal.append(i * 1000L, i, 50 + i, 2 * i);
+        journal.close();
+
+        ReadingJournal reopened = open();
+        assertThat(reopened.getLastSequence()).isEqualTo(10);
+        List<double[]> records = replay(reopened, 100);
+        assertThat(records).hasSize(10);
+        for (int i = 1; i <= 10; i++) {
+            assertThat(records.get(i - 1)).containsExactly(i, i * 1000L, i, 50 + i, 2 * i);
+        }
+        assertThat(replay(reopened, 3)).extracting(r -> r[0]).containsExactly(8.0, 9.0, 10.0);
+        reopened.close();
+    }
+
+    @Test
+    void recoveryStopsAtATornRecordAndOverwritesIt() throws IOException {
+        ReadingJournal journal = open();
+        for (int i = 1; i <= 6; i++) journal.append(i * 1000L, i, 50, 10);
+        journal.close();
+        // Record 6 is the second of the segment starting at 5; a crash before its sequence was written leaves zeros.
+        tearRecord(segment(5), 1);
+
+        ReadingJournal reopened = open();
+        assertThat(reopened.getLastSequence()).isEqualTo(5);
+        assertThat(replay(reopened, 100)).extracting(r -> r[0]).containsExactly(1.0, 2.0, 3.0, 4.0, 5.0);
+
+        reopened.append(60_000, 60, 50, 10);
+        assertThat(reopened.getLastSequence()).isEqualTo(6);
+        assertThat(replay(reopened, 1).get(0)).containsExactly(6, 60_000, 60, 50, 10);
+        reopened.close();
+    }
+
+    @Test
+    void dropsTheOldestSegmentsBeyondTheLimit() throws IOException {
+        ReadingJournal journal = new ReadingJournal(true, directory.toString(), SEGMENT_RECORDS, 2, 1_000);
+        journal.open();
+        for (int i = 1; i <= 20; i++) journal.append(i, i, 50, 10);
+
+        assertThat(segments()).hasSize(2);
+        assertThat(replay(journal, 100)).extracting(r -> r[0]).containsExactly(17.0, 18.0, 19.0, 20.0);
+        journal.close();
+    }
+
+    @Test
+    void recoveryRestoresHistoryAndTheLastReading() throws IOException {
+        ReadingJournal journal = open();
+        for (int i = 1; i <= 7; i++) journal.append(i * 1000L, i, 50, 10);
+        journal.close();
+
+        ReadingJournal reopened = open();
+        ReadingHistory history = new ReadingHistory(5, Duration.ZERO);
+        WeatherStation station = new WeatherStation("test", new ManualInputStrategy(), null, List.of());
+        new JournalRecovery(reopened, history, station).recover();
+
+        assertThat(history.range(Instant.EPOCH, Instant.ofEpochMilli(10_000), 10))
+                .extracting(WeatherData::getTemperatureCelsius).containsExactly(3.0, 4.0, 5.0, 6.0, 7.0);
+        assertThat(station.getLastData().getTemperatureCelsius()).isEqualTo(7.0);
+        assertThat(station.getLastData().getObservedAtMillis()).isEqualTo(7_000);
+        reopened.close();
+    }
+
+    private ReadingJournal open() throws IOException {
+        ReadingJournal journal = new ReadingJournal(true, directory.toString(), SEGMENT_RECORDS, 16, 1_000);
+        journal.open();
+        return journal;
+    }
+
+    private static List<double[]> replay(ReadingJournal journal, long max) throws IOException {
+        List<double[]> records = new ArrayList<>();
+        journal.replay(max, (seq, millis, t, h, w) -> records.add(new double[]{seq, millis, t, h, w}));
+        return records;
+    }
+
+    private static void tearRecord(Path segment, int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8), (long) index * ReadingJournal.RECORD_BYTES);
+        }
+    }
+
+    private Path segment(long firstSequence) {
+        return directory.resolve(String.format("%020d.wal", firstSequence));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.query;
+
+import org.example.history.ReadingHistory;
+import org.example.model.Metric;
+import org.example.service.StationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryEngineTest {
+    private static final int CHUNK = ReadingHistory.CHUNK_SIZE;
+    private static final double NO_LOWER = Double.NEGATIVE_INFINITY;
+    private static final double NO_UPPER = Double.POSITIVE_INFINITY;
+
+    private final StationRegistry registry = mock(StationRegistry.class);
+    private final QueryEngine engine = new QueryEngine(registry, 2);
+
+    @BeforeEach
+    void stations() {
+        // Wind at each station: "calm" 0..9 cycling, "windy" 20..29 cycling, "gusty" calm except one 80 kph gust.
+        when(registry.getStationIds()).thenReturn(List.of("calm", "windy", "gusty", "empty"));
+        when(registry.history("calm")).thenReturn(history(i -> i % 10));
+        when(registry.history("windy")).thenReturn(history(i -> 20 + i % 10));
+        when(registry.history("gusty")).thenReturn(history(i -> i == CHUNK + 7 ? 80 : i % 10));
+        when(registry.history("empty")).thenReturn(new ReadingHistory(CHUNK, Duration.ZERO));
+    }
+
+    @AfterEach
+    void shutdown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void ranksStationsByTheirAggregate() {
+        QueryResult result = engine.run(query(Aggregate.MAX, 0, Long.MAX_VALUE, NO_LOWER, NO_UPPER, List.of(), 10));
+
+        assertThat(result.stations()).extracting(StationAggregate::stationId).containsExactly("gusty", "windy", "calm");
+        assertThat(result.stations()).extracting(StationAggregate::value).containsExactly(80.0, 29.0, 9.0);
+        assertThat(result.stations().get(0).readings()).isEqualTo(3L * CHUNK);
+        // Every chunk lies inside the query, so none had to be read reading by reading.
+        assertThat(result.scannedReadings()).isZero();
+    }
+
+    @Test
+    void filtersReadingsByTimeAndValue() {
+        long from = CHUNK / 2;
+        long to = 2L * CHUNK;
+        QueryResult result = engine.run(query(Aggregate.COUNT, from, to, 4, 8, List.of("calm"), 10));
+
+        long expected = 0;
+        for (long i = from; i <= to; i++) {
+            if (i % 10 > 4 && i % 10 < 8) expected++;
+        }
+        assertThat(result.stations()).extracting(StationAggregate::stationId).containsExactly("calm");
+        assertThat(result.stations().get(0).value()).isEqualTo(expected);
+        assertThat(result.scannedChunks()).isGreaterThan(0);
+    }
+
+    @Test
+    void appliesHavingBoundsAndTheLimit() {
+        QueryResult having = engine.run(query(Aggregate.AVG, 0, Long.MAX_VALUE, NO_LOWER, NO_UPPER, List.of(), 10,
+                10, NO_UPPER));
+        assertThat(having.stations()).extracting(StationAggregate::stationId).containsExactly("windy");
+
+        QueryResult limited = engine.run(query(Aggregate.MAX, 0, Long.MAX_VALUE, NO_LOWER, NO_UPPER, List.of(), 1));
+        assertThat(limited.stations()).extracting(StationAggregate::stationId).containsExactly("gusty");
+    }
+
+    @Test
+    void skipsChunksTheSummariesRuleOut() {
+        QueryResult result = engine.run(query(Aggregate.MAX, 0, Long.MAX_VALUE, 50, NO_UPPER,
+                List.of("gusty", "missing"), 10));
+
+        assertThat(result.stations()).extracting(StationAggregate::value).containsExactly(80.0);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.skippedChunks()).isEqualTo(2);
+        assertThat(result.scannedReadings()).isEqualTo(CHUNK);
+    }
+
+    private static ReadingHistory history(IntToDoubleFunction wind) {
+        ReadingHistory history = new ReadingHistory(3 * CHUNK, Duration.ZERO);
+        for (int i = 0; i < 3 * CHUNK; i++) history.append(i, 20, 50, wind.applyAsDouble(i));
+        return history;
+    }
+
+    private static HistoryQuery query(Aggregate aggregate, long from, long to, double above, double below,
+                                      List<String> stations, int limit) {
+        return query(aggregate, from, to, above, below, stations, limit, NO_LOWER, NO_UPPER);
+    }
+
+    private static HistoryQuery query(Aggregate aggregate, long from, long to, double above, double below,
+                                      List<String> stations, int limit, double havingAbove, double havingBelow) {
+        return new HistoryQuery(Metric.WIND, aggregate, from, to, above, below, havingAbove, havingBelow, stations, limit);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+    // A small wheel, so the longer delays need several rounds.
+    private final HashedTimingWheel wheel = new HashedTimingWheel(5, 4, Runnable::run, "test-timing-wheel");
+
+    @AfterEach
+    void stop() {
+        wheel.stop();
+    }
+
+    @Test
+    void firesTimersInDeadlineOrder() throws InterruptedException {
+        List<Long> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(5);
+        for (long delay : new long[]{120, 20, 200, 60, 0}) {
+            wheel.schedule(() -> {
+                fired.add(delay);
+                done.countDown();
+            }, delay);
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly(0L, 20L, 60L, 120L, 200L);
+    }
+
+    @Test
+    void neverFiresBeforeTheDelay() throws InterruptedException {
+        long scheduled = System.nanoTime();
+        long[] firedAfter = new long[1];
+        CountDownLatch done = new CountDownLatch(1);
+        wheel.schedule(() -> {
+            firedAfter[0] = System.nanoTime() - scheduled;
+            done.countDown();
+        }, 100);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAfter[0]).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void cancelledTimersDoNotFire() throws InterruptedException {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        HashedTimingWheel.Timer cancelled = wheel.schedule(() -> fired.add("cancelled"), 30);
+        wheel.schedule(() -> {
+            fired.add("kept");
+            done.countDown();
+        }, 60);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("kept");
+    }
+
+    @Test
+    void cannotCancelAFiredTimer() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        HashedTimingWheel.Timer timer = wheel.schedule(done::countDown, 10);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(timer.cancel()).isFalse();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.sensor;
+
+import org.example.model.WeatherData;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SensorRingBufferTest {
+
+    @Test
+    void isEmptyUntilTheFirstSample() {
+        SensorRingBuffer ring = new SensorRingBuffer(4);
+        assertThat(ring.latest()).isNull();
+        assertThat(ring.getPublishedCount()).isZero();
+    }
+
+    @Test
+    void returnsTheMostRecentSampleAfterWrapping() {
+        SensorRingBuffer ring = new SensorRingBuffer(4);
+        for (int i = 0; i < 11; i++) ring.publish(1_000 + i, i, 50 + i, 2 * i);
+
+        WeatherData latest = ring.latest();
+        assertThat(latest.getTemperatureCelsius()).isEqualTo(10.0);
+        assertThat(latest.getHumidityPercent()).isEqualTo(60.0);
+        assertThat(latest.getWindKph()).isEqualTo(20.0);
+        assertThat(latest.getObservedAtMillis()).isEqualTo(1_010);
+        assertThat(ring.getPublishedCount()).isEqualTo(11);
+    }
+
+    @Test
+    void sharesOneReadingPerSample() {
+        SensorRingBuffer ring = new SensorRingBuffer(4);
+        ring.publish(1_000, 1, 2, 3);
+        WeatherData first = ring.latest();
+        assertThat(ring.latest()).isSameAs(first);
+
+        ring.publish(2_000, 4, 5, 6);
+        assertThat(ring.latest()).isNotSameAs(first);
+        assertThat(ring.latest().getTemperatureCelsius()).isEqualTo(4.0);
+    }
+
+    @Test
+    void readersNeverSeeTornSamples() throws InterruptedException {
+        SensorRingBuffer ring = new SensorRingBuffer(8);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<WeatherData> torn = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                WeatherData data = ring.latest();
+                // Every published sample has all three values equal to its timestamp.
+                if (data != null && (data.getTemperatureCelsius() != data.getObservedAtMillis()
+                        || data.getHumidityPercent() != data.getObservedAtMillis()
+                        || data.getWindKph() != data.getObservedAtMillis())) {
+                    torn.set(data);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 2_000_000; i++) ring.publish(i, i, i, i);
+        running.set(false);
+        reader.join();
+        assertThat(torn.get()).isNull();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.service;
+
+import org.example.model.Metric;
+import org.example.model.WeatherData;
+import org.example.observer.PhoneDisplay;
+import org.example.observer.WeatherObserver;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionIndexTest {
+    private final SubscriptionIndex index = new SubscriptionIndex();
+    private final WeatherObserver all = new PhoneDisplay("all");
+    private final WeatherObserver freezing = new PhoneDisplay("freezing");
+    private final WeatherObserver hot = new PhoneDisplay("hot");
+    private final WeatherObserver gusty = new PhoneDisplay("gusty");
+
+    @Test
+    void matchesCrossingsInEitherDirection() {
+        index.add(freezing, SubscriptionFilter.crossing(Metric.TEMPERATURE, 0, Duration.ZERO));
+        index.add(hot, SubscriptionFilter.crossing(Metric.TEMPERATURE, 30, Duration.ZERO));
+
+        assertThat(index.match(reading(2, 10), reading(-1, 10), 0)).containsExactly(freezing);
+        assertThat(index.match(reading(-1, 10), reading(31, 10), 1)).containsExactly(freezing, hot);
+        assertThat(index.match(reading(5, 10), reading(25, 10), 2)).isEmpty();
+        // A move that only reaches the threshold crosses it; one that starts on it does not.
+        assertThat(index.match(reading(29, 10), reading(30, 10), 3)).containsExactly(hot);
+        assertThat(index.match(reading(30, 10), reading(35, 10), 4)).isEmpty();
+    }
+
+    @Test
+    void matchesChangesLargerThanTheMinimum() {
+        index.add(gusty, SubscriptionFilter.minChange(Metric.WIND, 5, Duration.ZERO));
+
+        assertThat(index.match(reading(10, 10), reading(10, 15), 0)).isEmpty();
+        assertThat(index.match(reading(10, 10), reading(10, 16), 1)).containsExactly(gusty);
+        assertThat(index.match(reading(10, 16), reading(10, 10), 2)).containsExactly(gusty);
+        assertThat(index.match(null, reading(10, 10), 3)).containsExactly(gusty);
+    }
+
+    @Test
+    void returnsMatchesInSubscriptionOrder() {
+        index.add(hot, SubscriptionFilter.crossing(Metric.TEMPERATURE, 30, Duration.ZERO));
+        index.add(all, SubscriptionFilter.NONE);
+        index.add(freezing, SubscriptionFilter.crossing(Metric.TEMPERATURE, 0, Duration.ZERO));
+
+        assertThat(index.match(reading(-5, 10), reading(35, 10), 0)).containsExactly(hot, all, freezing);
+    }
+
+    @Test
+    void enforcesTheMinimumInterval() {
+        index.add(all, SubscriptionFilter.minInterval(Duration.ofSeconds(10)));
+
+        assertThat(index.match(null, reading(10, 10), 1_000)).containsExactly(all);
+        assertThat(index.match(null, reading(11, 10), 5_000)).isEmpty();
+        assertThat(index.match(null, reading(12, 10), 11_000)).containsExactly(all);
+    }
+
+    @Test
+    void removedAndReplacedSubscriptionsNoLongerMatch() {
+        index.add(freezing, SubscriptionFilter.crossing(Metric.TEMPERATURE, 0, Duration.ZERO));
+        index.add(gusty, SubscriptionFilter.minChange(Metric.WIND, 5, Duration.ZERO));
+        index.remove(gusty);
+        // Subscribing again replaces the earlier filter instead of adding a second one.
+        index.add(freezing, SubscriptionFilter.crossing(Metric.TEMPERATURE, 30, Duration.ZERO));
+
+        assertThat(index.match(reading(2, 10), reading(-1, 30), 0)).isEmpty();
+        assertThat(index.match(reading(25, 10), reading(35, 10), 1)).containsExactly(freezing);
+    }
+
+    private static WeatherData reading(double temperature, double wind) {
+        return new WeatherData(temperature, 50, wind, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    @Test
+    void allowsTheBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(1.0 / 3600, 3);
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(20, 1);
+        // Acquire back to back before asserting: the first assertion can take longer than a refill.
+        boolean first = bucket.tryAcquire();
+        boolean second = bucket.tryAcquire();
+        // Enough time for two tokens, but the burst capacity caps the refill at one.
+        Thread.sleep(100);
+        boolean refilled = bucket.tryAcquire();
+        boolean capped = bucket.tryAcquire();
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(refilled).isTrue();
+        assertThat(capped).isFalse();
+    }
+
+    @Test
+    void rejectsNonPositiveRates() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.service;
+
+import org.example.model.WeatherData;
+import org.example.strategy.ManualInputStrategy;
+import org.example.tracing.UpdateTrace;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WeatherStationTest {
+    private final ObserverDispatcher dispatcher = mock(ObserverDispatcher.class);
+
+    @Test
+    void coalescesReadingsWhileAFanOutIsRunning() {
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        when(dispatcher.dispatch(anyList(), any(WeatherData.class), any(UpdateTrace.class)))
+                .thenReturn(first, CompletableFuture.completedFuture(null));
+        WeatherStation station = station(new UpdatePolicy(true, 0, 1));
+
+        station.triggerUpdate(reading(1));
+        station.triggerUpdate(reading(2));
+        station.triggerUpdate(reading(3));
+        verify(dispatcher, times(1)).dispatch(anyList(), any(WeatherData.class), any(UpdateTrace.class));
+
+        first.complete(null);
+        ArgumentCaptor<WeatherData> sent = ArgumentCaptor.forClass(WeatherData.class);
+        verify(dispatcher, times(2)).dispatch(anyList(), sent.capture(), any(UpdateTrace.class));
+        assertThat(sent.getAllValues()).extracting(WeatherData::getTemperatureCelsius).containsExactly(1.0, 3.0);
+        assertThat(station.getUpdateStats().coalesced()).isEqualTo(1);
+    }
+
+    @Test
+    void fanOutThatThrowsDoesNotBlockLaterReadings() {
+        when(dispatcher.dispatch(anyList(), any(WeatherData.class), any(UpdateTrace.class)))
+                .thenThrow(new IllegalStateException("dispatcher down"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        WeatherStation station = station(new UpdatePolicy(true, 0, 1));
+
+        station.triggerUpdate(reading(1));
+        station.triggerUpdate(reading(2));
+
+        verify(dispatcher, times(2)).dispatch(anyList(), any(WeatherData.class), any(UpdateTrace.class));
+    }
+
+    @Test
+    void rejectsTriggersBeyondTheBurst() {
+        when(dispatcher.dispatch(anyList(), any(WeatherData.class), any(UpdateTrace.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        // One token per hour: nothing refills during the test.
+        WeatherStation station = station(new UpdatePolicy(false, 1.0 / 3600, 2));
+
+        station.triggerUpdate(reading(1));
+        station.triggerUpdate(reading(2));
+        assertThatThrownBy(() -> station.triggerUpdate(reading(3))).isInstanceOf(RateLimitedException.class);
+        assertThat(station.getLastData().getTemperatureCelsius()).isEqualTo(2.0);
+        assertThat(station.getUpdateStats().rateLimited()).isEqualTo(1);
+    }
+
+    private WeatherStation station(UpdatePolicy policy) {
+        return new WeatherStation("test", new ManualInputStrategy(), dispatcher, List.of(), policy);
+    }
+
+    private static WeatherData reading(double temperature) {
+        return new WeatherData(temperature, 50, 10, Instant.now());
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.web;
+
+import org.example.service.StationRegistry;
+import org.example.service.UnknownStationException;
+import org.example.service.WeatherStation;
+import org.example.strategy.ManualInputStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A station deleted between the controller's lookup and its action must answer 404, not 500.
+ */
+class StationControllerTest {
+    private final StationRegistry registry = mock(StationRegistry.class);
+    private final WeatherStation station = mock(WeatherStation.class);
+    private final StationController controller =
+            new StationController(registry, null, null, List.of(new ManualInputStrategy()));
+
+    @BeforeEach
+    void stationDisappearsBeforeTheAction() {
+        when(registry.get("gone")).thenReturn(station);
+        when(station.getCurrentStrategy()).thenReturn(new ManualInputStrategy());
+        when(registry.execute(eq("gone"), any())).thenThrow(new UnknownStationException("gone"));
+    }
+
+    @Test
+    void setStrategy() {
+        assertThat(controller.setStrategy("gone", "manual").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void manualUpdate() {
+        Map<String, Double> request = Map.of("temperatureCelsius", 20.0, "humidityPercent", 50.0, "windKph", 5.0);
+        assertThat(controller.manualUpdate("gone", request).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void subscribeObserver() {
+        Map<String, String> request = Map.of("id", "p1", "type", "phone");
+        assertThat(controller.subscribeObserver("gone", request).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void unsubscribeObserver() {
+        assertThat(controller.unsubscribeObserver("gone", "p1").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.wire;
+
+import org.example.history.ReadingHistory;
+import org.example.metrics.WeatherMetrics;
+import org.example.service.StationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WireServerTest {
+    private final ReadingHistory history = new ReadingHistory(100, Duration.ZERO);
+    private final StationRegistry registry = mock(StationRegistry.class);
+    private WireServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        when(registry.history("north")).thenReturn(history);
+        // Frames of at most four records, so a longer backlog is split across frames.
+        server = new WireServer(registry, WeatherMetrics.NOOP, true, "127.0.0.1", 0, 4, 4, 1);
+        server.start();
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    void streamsTheBacklogAndThenTheLiveTail() throws IOException {
+        for (int i = 0; i < 6; i++) history.append(i * 1000L, i, 50 + i, 2 * i);
+
+        try (SocketChannel client = connect()) {
+            subscribe(client, "north", 2);
+            ByteBuffer started = readFrame(client, WireProtocol.STARTED);
+            assertThat(started.getLong()).isEqualTo(2);
+            assertThat(started.getLong()).isEqualTo(6);
+
+            assertThat(readRecords(client, 4)).containsExactly(2, 3, 4, 5);
+            history.append(6_000, 6, 56, 12);
+            ByteBuffer live = readFrame(client, WireProtocol.READINGS);
+            assertThat(live.getInt()).isEqualTo(1);
+            assertThat(live.getLong()).isEqualTo(6);
+            assertThat(live.getLong()).isEqualTo(6_000);
+            assertThat(live.getDouble()).isEqualTo(6.0);
+            assertThat(live.getDouble()).isEqualTo(56.0);
+            assertThat(live.getDouble()).isEqualTo(12.0);
+        }
+    }
+
+    @Test
+    void liveSubscribersOnlySeeNewReadings() throws IOException {
+        for (int i = 0; i < 3; i++) history.append(i, i, 50, 10);
+
+        try (SocketChannel client = connect()) {
+            subscribe(client, "north", WireProtocol.LIVE);
+            ByteBuffer started = readFrame(client, WireProtocol.STARTED);
+            assertThat(started.getLong()).isEqualTo(3);
+
+            history.append(3, 3, 50, 10);
+            assertThat(readRecords(client, 1)).containsExactly(3);
+        }
+    }
+
+    @Test
+    void rejectsUnknownStationsAndCloses() throws IOException {
+        try (SocketChannel client = connect()) {
+            subscribe(client, "south", 0);
+            ByteBuffer error = readFrame(client, WireProtocol.ERROR);
+            assertThat(StandardCharsets.UTF_8.decode(error).toString()).isEqualTo("Unknown station: south");
+            assertThat(client.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+        }
+    }
+
+    private SocketChannel connect() throws IOException {
+        SocketChannel client = SocketChannel.open(server.getBoundAddress());
+        client.socket().setSoTimeout(5_000);
+        return client;
+    }
+
+    private static void subscribe(SocketChannel client, String stationId, long fromSequence) throws IOException {
+        ByteBuffer request = ByteBuffer.allocate(64);
+        WireProtocol.writeSubscribe(request, stationId, fromSequence);
+        request.flip();
+        while (request.hasRemaining()) client.write(request);
+    }
+
+    /**
+     * Reads sequences from READINGS frames until {@code count} records have arrived.
+     */
+    private static long[] readRecords(SocketChannel client, int count) throws IOException {
+        long[] sequences = new long[count];
+        int received = 0;
+        while (received < count) {
+            ByteBuffer frame = readFrame(client, WireProtocol.READINGS);
+            int records = frame.getInt();
+            for (int r = 0; r < records; r++) {
+                sequences[received++] = frame.getLong();
+                frame.position(frame.position() + WireProtocol.RECORD_BYTES - 8);
+            }
+        }
+        return sequences;
+    }
+
+    /**
+     * Reads one frame, checks its type and returns its payload after the type byte.
+     */
+    private static ByteBuffer readFrame(SocketChannel client, byte expectedType) throws IOException {
+        ByteBuffer length = readFully(client, 4);
+        ByteBuffer frame = readFully(client, length.getInt());
+        assertThat(frame.get()).isEqualTo(expectedType);
+        return frame;
+    }
+
+    private static ByteBuffer readFully(SocketChannel client, int bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        // Blocking channel reads ignore the socket timeout, so go through the socket's stream.
+        InputStream in = client.socket().getInputStream();
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer.array(), buffer.position(), buffer.remaining());
+            if (read < 0) throw new EOFException();
+            buffer.position(buffer.position() + read);
+        }
+        return buffer.flip();
+    }
+}